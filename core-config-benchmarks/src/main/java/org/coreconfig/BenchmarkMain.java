@@ -0,0 +1,33 @@
+package org.coreconfig;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the usual JMH command line, and always adds the GC
+ * profiler so every run reports allocation per operation ({@code gc.alloc.rate.norm}) next to time.
+ *
+ * <pre>{@code
+ * java -jar benchmarks.jar                      # everything
+ * java -jar benchmarks.jar BootBenchmark -p size=large
+ * java -jar benchmarks.jar ".*cold.*"          # only the single-shot, fresh-JVM variants
+ * }</pre>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding every section of a parsed config, with and without validation, warm and in a
+ * fresh JVM. The {@code large} size binds thousands of {@link DbConfig} sections.
+ *
+ * Run with: {@code java -jar core-config-benchmarks/target/benchmarks.jar BindValidateBenchmark}
+ * or straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindValidateBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private Config root;
+    private List<String> dbSections;
+    private ConfigMapper mapper;
+
+    @Setup
+    public void setUp() {
+        GeneratedConfigs.Size generated = GeneratedConfigs.Size.of(size);
+        root = ConfigLoader.load(GeneratedConfigs.parse(generated));
+        dbSections = new ArrayList<>(List.of("db"));
+        for (int i = 0; i < generated.sections; i++) {
+            dbSections.add("section-" + i);
+        }
+        mapper = new ConfigMapper();
+    }
+
+    @Benchmark
+    public void bind(Blackhole blackhole) {
+        ConfigBinder<DbConfig> binder = ConfigMapper.binder(DbConfig.class);
+        for (String section : dbSections) {
+            blackhole.consume(binder.bind(root.getConfig(section)));
+        }
+    }
+
+    @Benchmark
+    public void bindAndValidate(Blackhole blackhole) {
+        for (String section : dbSections) {
+            blackhole.consume(mapper.map(root, section, DbConfig.class));
+        }
+    }
+
+    @Benchmark
+    public AppConfig aggregate() {
+        return SimpleConfig.bind(root, AppConfig.class, BootOptions.defaults());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public void coldBindAndValidate(Blackhole blackhole) {
+        bindAndValidate(blackhole);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BindValidateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
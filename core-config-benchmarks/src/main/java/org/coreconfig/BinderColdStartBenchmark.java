@@ -0,0 +1,66 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first, cold bind of every {@link AppConfig} section in a fresh JVM, with generated
+ * binders enabled and disabled. This is the cost a restarting service pays before it is ready.
+ *
+ * Run straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@State(Scope.Benchmark)
+public class BinderColdStartBenchmark {
+
+    private Config root;
+
+    @Setup
+    public void setUp() {
+        root = ConfigFactory.parseString("""
+                http { host = "0.0.0.0", port = 8080, idle-timeout = 30s }
+                db {
+                  url = "jdbc:postgresql://db:5432/trading"
+                  user = "trader"
+                  password = "secret"
+                  pool-size = 16
+                  timeout = 2s
+                }
+                """);
+    }
+
+    @Benchmark
+    @Fork(value = 20)
+    public AppConfig generatedBinders() {
+        return bindAll();
+    }
+
+    @Benchmark
+    @Fork(value = 20, jvmArgsAppend = "-Dcoreconfig.generatedBinders=false")
+    public AppConfig reflectiveBinders() {
+        return bindAll();
+    }
+
+    private AppConfig bindAll() {
+        ConfigBinder<AppConfig> aggregate = ConfigMapper.binder(AppConfig.class);
+        return aggregate.construct(new Object[] {
+                ConfigMapper.binder(HttpConfig.class).bind(root.getConfig("http")),
+                ConfigMapper.binder(DbConfig.class).bind(root.getConfig("db"))
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BinderColdStartBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,67 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ConfigLoader#load(Config)} (parse, layer and resolve) and the full
+ * {@link SimpleConfig#boot(Class)} from a config file, warm and in a fresh JVM.
+ *
+ * Typesafe Config caches parsed application files, so the caches are dropped before every
+ * invocation; otherwise only the first one would parse.
+ *
+ * Run with: {@code java -jar core-config-benchmarks/target/benchmarks.jar BootBenchmark}
+ * or straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BootBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GeneratedConfigs.installAsConfigFile(GeneratedConfigs.Size.of(size));
+    }
+
+    @Setup(Level.Invocation)
+    public void dropParseCaches() {
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Benchmark
+    public Config load() {
+        return ConfigLoader.load(ConfigFactory.load());
+    }
+
+    @Benchmark
+    public AppConfig boot() {
+        return SimpleConfig.boot(AppConfig.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public AppConfig coldBoot() {
+        return SimpleConfig.boot(AppConfig.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BootBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,56 @@
+package org.coreconfig;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that reading through a {@link ConfigHandle} costs about as much as reading a field,
+ * as request-path code does on every call. Run with {@code -prof gc} to confirm zero allocation.
+ *
+ * Run straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigHandleBenchmark {
+
+    private HttpConfig plainField;
+    private ConfigHandle<HttpConfig> handle;
+    private long seenVersion;
+
+    @Setup
+    public void setUp() {
+        plainField = new HttpConfig(8080, "localhost", Duration.ofSeconds(30));
+        handle = new ConfigHandle<>(plainField);
+        seenVersion = handle.version();
+    }
+
+    @Benchmark
+    public int plainFieldRead() {
+        return plainField.port();
+    }
+
+    @Benchmark
+    public int handleRead() {
+        return handle.get().port();
+    }
+
+    @Benchmark
+    public boolean versionCheck() {
+        return handle.hasChangedSince(seenVersion);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConfigHandleBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a dynamic lookup such as {@code config.getDuration("db.timeout")} through Typesafe Config
+ * with the same lookup through a {@link ConfigIndex}, by path and by pre-obtained token.
+ * The index lookups should not allocate (see the gc profiler columns).
+ *
+ * Run straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigIndexBenchmark {
+
+    private static final String TIMEOUT = "db.timeout";
+    private static final String POOL_SIZE = "db.pool-size";
+
+    private Config config;
+    private ConfigIndex index;
+    private int timeoutToken;
+    private int poolSizeToken;
+
+    @Setup
+    public void setUp() {
+        config = GeneratedConfigs.parse(GeneratedConfigs.Size.MEDIUM).resolve();
+        index = ConfigIndex.of(config);
+        timeoutToken = ConfigIndex.token(TIMEOUT);
+        poolSizeToken = ConfigIndex.token(POOL_SIZE);
+    }
+
+    @Benchmark
+    public Duration configGetDuration() {
+        return config.getDuration(TIMEOUT);
+    }
+
+    @Benchmark
+    public Duration indexGetDurationByPath() {
+        return index.getDuration(TIMEOUT);
+    }
+
+    @Benchmark
+    public Duration indexGetDurationByToken() {
+        return index.getDuration(timeoutToken);
+    }
+
+    @Benchmark
+    public int configGetInt() {
+        return config.getInt(POOL_SIZE);
+    }
+
+    @Benchmark
+    public int indexGetIntByToken() {
+        return index.getInt(poolSizeToken);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConfigIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original per-call reflective binding against the cached {@link BindingPlan}
+ * and the compile-time generated binder.
+ *
+ * Run with: {@code java -jar core-config-benchmarks/target/benchmarks.jar ConfigMapperBenchmark}
+ * or straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigMapperBenchmark {
+
+    private Config slice;
+    private Config root;
+    private ConfigMapper mapper;
+    private BindingPlan<DbConfig> plan;
+    private DbConfig_ConfigBinder generated;
+
+    @Setup
+    public void setUp() {
+        root = ConfigFactory.parseString("""
+                db {
+                  url = "jdbc:postgresql://localhost:5432/test"
+                  user = "testuser"
+                  password = "testpassword"
+                  pool-size = 10
+                  timeout = 5s
+                }
+                """);
+        slice = root.getConfig("db");
+        mapper = new ConfigMapper();
+        plan = BindingPlan.compile(DbConfig.class);
+        generated = new DbConfig_ConfigBinder();
+    }
+
+    @Benchmark
+    public DbConfig reflectiveBinding() throws Exception {
+        return legacyBind(slice, DbConfig.class);
+    }
+
+    @Benchmark
+    public DbConfig cachedPlanBinding() {
+        return plan.bind(slice);
+    }
+
+    @Benchmark
+    public DbConfig generatedBinding() {
+        return generated.bind(slice);
+    }
+
+    @Benchmark
+    public DbConfig mapAndValidate() {
+        return mapper.map(root, "db", DbConfig.class);
+    }
+
+    /**
+     * The binding loop as it was before plans were cached, kept here as the baseline.
+     */
+    private static <T> T legacyBind(Config config, Class<T> recordType) throws Exception {
+        RecordComponent[] components = recordType.getRecordComponents();
+        Object[] args = new Object[components.length];
+        Class<?>[] paramTypes = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent rc = components[i];
+            paramTypes[i] = rc.getType();
+            String key = rc.getName().replaceAll("([a-z])([A-Z]+)", "$1-$2").toLowerCase();
+            if (!config.hasPath(key)) {
+                throw new IllegalStateException("Missing required config key: " + key);
+            }
+            Class<?> type = rc.getType();
+            if (type == int.class) args[i] = config.getInt(key);
+            else if (type == String.class) args[i] = config.getString(key);
+            else if (type == boolean.class) args[i] = config.getBoolean(key);
+            else if (type == Duration.class) args[i] = config.getDuration(key);
+            else if (type == double.class) args[i] = config.getDouble(key);
+            else if (type == long.class) args[i] = config.getLong(key);
+        }
+
+        Constructor<T> constructor = recordType.getDeclaredConstructor(paramTypes);
+        return constructor.newInstance(args);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConfigMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
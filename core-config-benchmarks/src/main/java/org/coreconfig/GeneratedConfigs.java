@@ -0,0 +1,99 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Synthetic configurations of increasing size for the benchmarks.
+ *
+ * Every size contains the {@link AppConfig} sections ({@code http}, {@code db}); larger sizes add
+ * {@code sections} extra {@link DbConfig}-shaped sections named {@code section-0 ... section-N},
+ * a {@code reference-data} block of lists, and a chain of objects {@code depth} levels deep.
+ */
+final class GeneratedConfigs {
+
+    /** The sizes benchmarks accept through {@code @Param("small", "medium", "large")}. */
+    enum Size {
+        SMALL(0, 0, 0),
+        MEDIUM(100, 100, 8),
+        LARGE(5_000, 10_000, 32);
+
+        final int sections;
+        final int referenceRows;
+        final int depth;
+
+        Size(int sections, int referenceRows, int depth) {
+            this.sections = sections;
+            this.referenceRows = referenceRows;
+            this.depth = depth;
+        }
+
+        static Size of(String name) {
+            return valueOf(name.toUpperCase());
+        }
+    }
+
+    private GeneratedConfigs() {}
+
+    static String hocon(Size size) {
+        StringBuilder text = new StringBuilder(64 + size.sections * 160 + size.referenceRows * 48);
+        text.append("""
+                http { host = "0.0.0.0", port = 8080, idle-timeout = 30s }
+                db {
+                  url = "jdbc:postgresql://db:5432/trading"
+                  user = "trader"
+                  password = ${?DB_PASSWORD}
+                  password = "secret"
+                  pool-size = 16
+                  timeout = 2s
+                }
+                """);
+        for (int i = 0; i < size.sections; i++) {
+            text.append("section-").append(i).append(" { url = \"jdbc:postgresql://db-").append(i)
+                    .append(":5432/app\", user = \"user-").append(i).append("\", password = \"p").append(i)
+                    .append("\", pool-size = ").append(i % 64 + 1).append(", timeout = ").append(i % 30 + 1).append("s }\n");
+        }
+        if (size.referenceRows > 0) {
+            text.append("reference-data { instruments = [");
+            for (int i = 0; i < size.referenceRows; i++) {
+                text.append(i == 0 ? "" : ", ").append("{ id = ").append(i).append(", symbol = \"SYM").append(i)
+                        .append("\", tick = 0.01 }");
+            }
+            text.append("] }\n");
+        }
+        if (size.depth > 0) {
+            text.append("deep ");
+            for (int i = 0; i < size.depth; i++) {
+                text.append("{ level-").append(i).append(" { name = \"n").append(i).append("\", token = \"t").append(i).append("\" }, next ");
+            }
+            text.append("{ leaf = true }");
+            text.append(" }".repeat(size.depth)).append('\n');
+        }
+        return text.toString();
+    }
+
+    static Config parse(Size size) {
+        return ConfigFactory.parseString(hocon(size));
+    }
+
+    /**
+     * Writes the config to a temporary file and points {@code config.file} at it, as a service would boot.
+     */
+    static Path installAsConfigFile(Size size) {
+        try {
+            Path file = Files.createTempFile("coreconfig-bench-" + size.name().toLowerCase(), ".conf");
+            Files.writeString(file, hocon(size));
+            file.toFile().deleteOnExit();
+            System.setProperty("config.file", file.toString());
+            ConfigFactory.invalidateCaches();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
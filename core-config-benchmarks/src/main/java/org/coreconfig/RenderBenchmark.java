@@ -0,0 +1,78 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigValueFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures rendering the effective config for the boot log: the streaming {@link ConfigRenderer}
+ * to a writer and to the bounded log string, against the original unwrap-and-render approach.
+ * Compare {@code gc.alloc.rate.norm} as much as time.
+ *
+ * Run with: {@code java -jar core-config-benchmarks/target/benchmarks.jar RenderBenchmark}
+ * or straight from the IDE via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private Config config;
+    private ConfigRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        config = ConfigLoader.load(GeneratedConfigs.parse(GeneratedConfigs.Size.of(size)));
+        renderer = ConfigRenderer.defaults().maxChars(Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public void streamingToWriter() throws IOException {
+        renderer.render(config, Writer.nullWriter());
+    }
+
+    @Benchmark
+    public String streamingToLogString() {
+        return ConfigRenderer.defaults().render(config);
+    }
+
+    @Benchmark
+    public String legacyUnwrapAndRender() {
+        Config redacted = config.withOnlyPath("root").withValue("root",
+                ConfigValueFactory.fromMap(config.root().unwrapped().entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey,
+                                entry -> ConfigLoader.isSecretKey(entry.getKey()) ? "[REDACTED]" : entry.getValue()))));
+        return redacted.root().render(ConfigRenderOptions.defaults().setOriginComments(false).setJson(false));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public String coldStreamingToLogString() {
+        return ConfigRenderer.defaults().render(config);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,108 @@
+package org.coreconfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Measures JVM-to-ready startup, i.e. from launching {@code java} until {@link SimpleConfig#boot(Class)} has
+ * returned a validated {@link AppConfig}, with and without the AppCDS archive built by the {@code cds} profile.
+ *
+ * JMH's single-shot forks ({@link BootBenchmark#coldBoot()}) only time the boot itself, in a JVM whose own
+ * classes and JMH's are already loaded; here every run is a fresh {@code java} process, in three modes:
+ * <ul>
+ *   <li>{@code no-cds}: {@code -Xshare:off}, every class loaded and verified from the jars;</li>
+ *   <li>{@code jdk-cds}: the JDK's default archive, which only covers JDK classes;</li>
+ *   <li>{@code app-cds}: {@code -XX:SharedArchiveFile} with the trained archive, covering the boot path.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * mvn -pl core-config-benchmarks -am -Pcds package
+ * java -cp core-config-benchmarks/target/benchmarks.jar org.coreconfig.StartupBenchmark [runs] [archive]
+ * }</pre>
+ */
+public final class StartupBenchmark {
+
+    private static final String READY = "ready";
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Path archive = Path.of(args.length > 1 ? args[1] : "core-config-benchmarks/target/coreconfig.jsa");
+        // The archive only maps for the class path it was trained with, which the cds profile spells absolute.
+        String classPath = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(entry -> Path.of(entry).toAbsolutePath().normalize().toString())
+                .collect(Collectors.joining(File.pathSeparator));
+
+        List<List<String>> modes = new ArrayList<>();
+        modes.add(List.of("no-cds", "-Xshare:off"));
+        modes.add(List.of("jdk-cds"));
+        if (Files.isRegularFile(archive)) {
+            modes.add(List.of("app-cds", "-XX:SharedArchiveFile=" + archive, "-Dcoreconfig.cds.archive=" + archive));
+        } else {
+            System.out.println("No archive at " + archive + "; build it with -Pcds. Skipping app-cds.");
+        }
+
+        System.out.printf("%-8s %10s %10s %10s%n", "mode", "median ms", "mean ms", "min ms");
+        for (List<String> mode : modes) {
+            long[] millis = new long[runs];
+            startup(classPath, mode); // Warm the file system cache.
+            for (int i = 0; i < runs; i++) {
+                millis[i] = startup(classPath, mode);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-8s %10d %10.1f %10d%n",
+                    mode.get(0), millis[runs / 2], Arrays.stream(millis).average().orElse(0), millis[0]);
+        }
+    }
+
+    /**
+     * @return Milliseconds from launching the JVM until the probe reports a booted config.
+     */
+    private static long startup(String classPath, List<String> mode) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.subList(1, mode.size()));
+        command.addAll(List.of("-Dconfig.resource=app.conf", "-Ddb.user=bench", "-Ddb.password=bench",
+                "-cp", classPath, Probe.class.getName()));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long ready = -1;
+        List<String> output = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line; (line = in.readLine()) != null; ) {
+                if (ready < 0 && line.equals(READY)) {
+                    ready = System.nanoTime();
+                }
+                output.add(line);
+            }
+        }
+        if (process.waitFor() != 0 || ready < 0) {
+            throw new IllegalStateException(mode.get(0) + " run failed:\n" + String.join("\n", output));
+        }
+        return (ready - start) / 1_000_000;
+    }
+
+    /**
+     * The measured process: boots and exits.
+     */
+    public static final class Probe {
+
+        private Probe() {}
+
+        public static void main(String[] args) {
+            SimpleConfig.boot(AppConfig.class);
+            System.out.println(READY);
+        }
+    }
+}
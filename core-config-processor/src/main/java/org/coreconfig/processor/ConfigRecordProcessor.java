@@ -0,0 +1,321 @@
+package org.coreconfig.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Generates a reflection-free {@code ConfigBinder} for every record annotated with {@code @ConfigRecord}.
+ *
+ * The generated class reads each component straight from the config slice with the typed getter (or
+ * the matching {@code ConfigValues} reader for arrays, collections and nested records) and calls the
+ * canonical constructor directly. Its name and key convention must stay in line with
+ * {@code ConfigBinder.generatedBinderName} and {@code BindingPlan.toKebabCase} in core-config.
+ */
+@SupportedAnnotationTypes(ConfigRecordProcessor.CONFIG_RECORD)
+public final class ConfigRecordProcessor extends AbstractProcessor {
+
+    private static final String API_PACKAGE = "org.coreconfig";
+    static final String CONFIG_RECORD = API_PACKAGE + ".ConfigRecord";
+    private static final String BINDER_SUFFIX = "_ConfigBinder";
+    private static final String LAZY = "org.coreconfig.Lazy";
+    private static final String CONFIG_VALUES = "org.coreconfig.ConfigValues";
+    private static final Map<String, String> COLLECTION_READERS =
+            Map.of("java.util.List", "list", "java.util.Set", "set", "java.util.Map", "map");
+    /** Kept in line with {@code ConfigValues.isSupportedElement}; records are supported as well. */
+    private static final Set<String> ELEMENT_CLASSES = Set.of("java.lang.String", "java.lang.Integer",
+            "java.lang.Long", "java.lang.Double", "java.lang.Boolean", "java.time.Duration");
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z])([A-Z]+)");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@ConfigRecord can only be applied to records");
+                    continue;
+                }
+                TypeElement record = (TypeElement) element;
+                if (!isAccessibleFromPackage(record)) {
+                    warn(record, "Skipping binder generation for private or local record; it will be bound reflectively");
+                    continue;
+                }
+                if (!record.getTypeParameters().isEmpty()) {
+                    warn(record, "Skipping binder generation for generic record; it will be bound reflectively");
+                    continue;
+                }
+                generate(record);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(record);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(record).toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String binderName = simpleBinaryName.replace('$', '_') + BINDER_SUFFIX;
+        String recordName = record.getQualifiedName().toString();
+        List<? extends RecordComponentElement> components = record.getRecordComponents();
+
+        StringBuilder src = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("import com.typesafe.config.Config;\n");
+        if (!packageName.equals(API_PACKAGE)) {
+            src.append("import ").append(API_PACKAGE).append(".ConfigBinder;\n");
+        }
+        src.append("\n");
+        src.append("import java.util.List;\n\n");
+        src.append("/**\n * Generated by ").append(getClass().getName()).append(" for {@link ")
+                .append(recordName).append("}. Do not edit.\n */\n");
+        src.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        src.append("public final class ").append(binderName).append(" implements ConfigBinder<")
+                .append(recordName).append("> {\n\n");
+
+        src.append("    private static final List<String> NAMES = List.of(");
+        appendJoined(src, components, c -> '"' + c.getSimpleName().toString() + '"');
+        src.append(");\n");
+        src.append("    private static final List<Class<?>> TYPES = List.of(");
+        appendJoined(src, components, c -> erasure(c.asType()) + ".class");
+        src.append(");\n");
+        boolean generic = components.stream().anyMatch(c -> elementType(c.asType()) != null);
+        if (generic) {
+            src.append("    private static final List<Class<?>> ELEMENT_TYPES = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+            appendJoined(src, components, c -> {
+                String element = elementType(c.asType());
+                return element == null ? "null" : element + ".class";
+            });
+            src.append("));\n");
+        }
+        src.append("\n");
+
+        src.append("    @Override\n    public List<String> componentNames() {\n        return NAMES;\n    }\n\n");
+        src.append("    @Override\n    public List<Class<?>> componentTypes() {\n        return TYPES;\n    }\n\n");
+        if (generic) {
+            src.append("    @Override\n    public List<Class<?>> componentElementTypes() {\n        return ELEMENT_TYPES;\n    }\n\n");
+            src.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+
+        src.append("    @Override\n    public ").append(recordName).append(" construct(Object[] args) {\n");
+        src.append("        return new ").append(recordName).append("(");
+        int[] index = {0};
+        appendJoined(src, components, c -> "(" + erasure(c.asType()) + ") args[" + index[0]++ + "]");
+        src.append(");\n    }\n\n");
+
+        src.append("    @Override\n    public ").append(recordName).append(" bind(Config slice) {\n");
+        appendBindBody(src, recordName, components);
+        src.append("    }\n}\n");
+        write(record, packageName, binderName, src);
+    }
+
+    /**
+     * Emits one typed read per component, then the constructor call. A component we cannot read
+     * ends the body with the same exception the reflective binder throws.
+     */
+    private void appendBindBody(StringBuilder src, String recordName, List<? extends RecordComponentElement> components) {
+        for (RecordComponentElement c : components) {
+            String name = c.getSimpleName().toString();
+            String key = toKebabCase(name);
+            String element = elementType(c.asType());
+            if (element != null && LAZY.equals(erasure(c.asType()))) {
+                // A lazy section is only required to exist once it is used.
+                src.append("        ").append(LAZY).append('<').append(element).append("> ").append(name).append(" = ")
+                        .append(LAZY).append(".section(slice, \"").append(key).append("\", ").append(element).append(".class);\n");
+                continue;
+            }
+            String getter = getterFor(c.asType());
+            String reader = getter == null ? readerFor(c.asType(), element) : null;
+            if (reader != null) {
+                String argument = reader.equals("record") ? erasure(c.asType()) : element;
+                src.append("        ").append(sourceType(c.asType())).append(' ').append(name).append(" = ")
+                        .append(CONFIG_VALUES).append('.').append(reader).append("(slice, ConfigBinder.requireKey(slice, \"")
+                        .append(key).append("\")").append(argument != null ? ", " + argument + ".class" : "").append(");\n");
+                continue;
+            }
+            if (getter == null) {
+                src.append("        ConfigBinder.requireKey(slice, \"").append(key).append("\");\n");
+                src.append("        throw new UnsupportedOperationException(\"Unsupported config type: ")
+                        .append(simpleName(c.asType())).append("\");\n");
+                return;
+            }
+            src.append("        ").append(erasure(c.asType())).append(' ').append(name).append(" = slice.").append(getter)
+                    .append("(ConfigBinder.requireKey(slice, \"").append(key).append("\"));\n");
+        }
+        src.append("        return new ").append(recordName).append("(");
+        appendJoined(src, components, c -> c.getSimpleName().toString());
+        src.append(");\n");
+    }
+
+    /**
+     * Maps a component type to the typed {@code Config} getter, or null if the type is not a scalar we read.
+     */
+    private String getterFor(TypeMirror type) {
+        return switch (type.getKind()) {
+            case INT -> "getInt";
+            case LONG -> "getLong";
+            case DOUBLE -> "getDouble";
+            case BOOLEAN -> "getBoolean";
+            case DECLARED -> switch (erasure(type)) {
+                case "java.lang.String" -> "getString";
+                case "java.time.Duration" -> "getDuration";
+                default -> null;
+            };
+            default -> null;
+        };
+    }
+
+    /**
+     * Maps a primitive array, collection or nested record type to its {@code ConfigValues} reader,
+     * or returns null if the type is none of these.
+     */
+    private String readerFor(TypeMirror type, String element) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return switch (((ArrayType) type).getComponentType().getKind()) {
+                case INT -> "intArray";
+                case LONG -> "longArray";
+                case DOUBLE -> "doubleArray";
+                default -> null;
+            };
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        String collection = COLLECTION_READERS.get(erasure(type));
+        if (collection != null) {
+            return element != null ? collection : null;
+        }
+        return isRecord(type) ? "record" : null;
+    }
+
+    /**
+     * @return The erased type argument of a {@code Lazy<X>} component, the element of a {@code List<E>} or
+     *         {@code Set<E>} and the value of a {@code Map<String, V>} we can bind, or null for any other type.
+     */
+    private String elementType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        String erasure = erasure(type);
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (LAZY.equals(erasure)) {
+            return arguments.size() == 1 && arguments.get(0).getKind() == TypeKind.DECLARED ? erasure(arguments.get(0)) : null;
+        }
+        if (!COLLECTION_READERS.containsKey(erasure) || arguments.isEmpty()) {
+            return null;
+        }
+        TypeMirror element = arguments.get(arguments.size() - 1);
+        if (arguments.size() == 2 && !"java.lang.String".equals(erasure(arguments.get(0)))) {
+            return null;
+        }
+        boolean supported = element.getKind() == TypeKind.DECLARED
+                && (ELEMENT_CLASSES.contains(erasure(element)) || isRecord(element));
+        return supported ? erasure(element) : null;
+    }
+
+    private boolean isRecord(TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element != null && element.getKind() == ElementKind.RECORD;
+    }
+
+    /**
+     * Renders a type with its type arguments for a local variable declaration, without type-use annotations.
+     */
+    private String sourceType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return erasure(type);
+        }
+        StringBuilder sb = new StringBuilder(erasure(type)).append('<');
+        appendJoined(sb, ((DeclaredType) type).getTypeArguments(), this::sourceType);
+        return sb.append('>').toString();
+    }
+
+    /**
+     * Renders the erased source name of a type. {@code TypeMirror.toString()} is not used because it
+     * includes type-use annotations such as {@code @NotBlank}, which are not valid in a class literal or cast.
+     */
+    private String erasure(TypeMirror type) {
+        return switch (type.getKind()) {
+            case DECLARED -> ((TypeElement) processingEnv.getTypeUtils().asElement(type)).getQualifiedName().toString();
+            case ARRAY -> erasure(((ArrayType) type).getComponentType()) + "[]";
+            default -> type.getKind().isPrimitive()
+                    ? type.getKind().name().toLowerCase()
+                    : processingEnv.getTypeUtils().erasure(type).toString();
+        };
+    }
+
+    private String simpleName(TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        return element != null ? element.getSimpleName().toString() : type.toString();
+    }
+
+    static String toKebabCase(String name) {
+        return CAMEL_CASE_BOUNDARY.matcher(name).replaceAll("$1-$2").toLowerCase();
+    }
+
+    private static boolean isAccessibleFromPackage(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE) || ((TypeElement) e).getNestingKind() == NestingKind.LOCAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E> void appendJoined(StringBuilder sb, List<? extends E> items, Function<E, String> fn) {
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(fn.apply(items.get(i)));
+        }
+    }
+
+    private void write(TypeElement record, String packageName, String binderName, CharSequence src) {
+        String qualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, record);
+            try (Writer writer = file.openWriter()) {
+                writer.append(src);
+            }
+        } catch (IOException e) {
+            error(record, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+}
@@ -5,6 +5,7 @@ package org.coreconfig;
  * The name of each component (e.g., 'http', 'db') corresponds to a top-level
  * block in the application.conf file.
  */
+@ConfigRecord
 public record AppConfig(
         HttpConfig http,
         DbConfig db
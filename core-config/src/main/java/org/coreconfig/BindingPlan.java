@@ -0,0 +1,210 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A precompiled recipe for binding a config slice to one record type.
+ *
+ * Everything that only depends on the record type (kebab-case keys, typed extractors and the
+ * canonical constructor) is resolved once here, so binding is a straight loop over arrays.
+ * Plans are immutable and safe to share between threads; {@link ConfigMapper} caches them per type.
+ *
+ * This is the reflective fallback for records that have no generated {@link ConfigBinder}.
+ */
+final class BindingPlan<T> implements ConfigBinder<T> {
+
+    private static final Pattern CAMEL_CASE_BOUNDARY = Pattern.compile("([a-z])([A-Z]+)");
+
+    private static final Map<Class<?>, ValueExtractor> EXTRACTORS = Map.of(
+            int.class, Config::getInt,
+            String.class, Config::getString,
+            boolean.class, Config::getBoolean,
+            Duration.class, Config::getDuration,
+            double.class, Config::getDouble,
+            long.class, Config::getLong
+    );
+
+    /**
+     * Reads a single typed value from a config slice.
+     */
+    @FunctionalInterface
+    interface ValueExtractor {
+        Object extract(Config config, String key);
+    }
+
+    private final Class<T> recordType;
+    private final List<String> names;
+    private final List<Class<?>> types;
+    private final List<Class<?>> elementTypes;
+    private final String[] keys;
+    private final ValueExtractor[] extractors;
+    private final MethodHandle constructor;
+
+    private BindingPlan(Class<T> recordType, List<String> names, List<Class<?>> types, List<Class<?>> elementTypes,
+                        String[] keys, ValueExtractor[] extractors, MethodHandle constructor) {
+        this.recordType = recordType;
+        this.names = names;
+        this.types = types;
+        this.elementTypes = elementTypes;
+        this.keys = keys;
+        this.extractors = extractors;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Builds the plan for a record type. This is the only place reflection is used.
+     *
+     * Components with a type we cannot read get an extractor that fails when used, so the plan can
+     * still construct the record from values bound elsewhere.
+     *
+     * @throws IllegalArgumentException if the type is not a record.
+     */
+    static <T> BindingPlan<T> compile(Class<T> recordType) {
+        RecordComponent[] components = recordType.getRecordComponents();
+        if (components == null) {
+            throw new IllegalArgumentException("Config type must be a record: " + recordType.getName());
+        }
+        String[] names = new String[components.length];
+        String[] keys = new String[components.length];
+        ValueExtractor[] extractors = new ValueExtractor[components.length];
+        Class<?>[] paramTypes = new Class<?>[components.length];
+        Class<?>[] elementTypes = new Class<?>[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent rc = components[i];
+            paramTypes[i] = rc.getType();
+            names[i] = rc.getName();
+            keys[i] = toKebabCase(rc.getName());
+            elementTypes[i] = typeArgument(rc.getGenericType());
+            extractors[i] = extractorFor(rc.getType(), elementTypes[i]);
+        }
+
+        try {
+            Constructor<T> ctor = recordType.getDeclaredConstructor(paramTypes);
+            ctor.trySetAccessible();
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(ctor)
+                    .asType(MethodType.methodType(Object.class, paramTypes))
+                    .asSpreader(Object[].class, paramTypes.length);
+            return new BindingPlan<>(recordType, List.of(names), List.of(paramTypes), Collections.unmodifiableList(Arrays.asList(elementTypes)), keys, extractors, handle);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access canonical constructor of " + recordType.getName(), e);
+        }
+    }
+
+    /**
+     * Converts a camelCase record component name to its kebab-case config key.
+     */
+    static String toKebabCase(String name) {
+        return CAMEL_CASE_BOUNDARY.matcher(name).replaceAll("$1-$2").toLowerCase();
+    }
+
+    /**
+     * @return The class argument of a type like {@code Lazy<DbConfig>} or {@code List<String>}, the value
+     *         class of a {@code Map<String, V>}, or null if there is none.
+     */
+    private static Class<?> typeArgument(Type type) {
+        if (!(type instanceof ParameterizedType parameterized)) {
+            return null;
+        }
+        Type[] arguments = parameterized.getActualTypeArguments();
+        if (parameterized.getRawType() == Map.class) {
+            return arguments[0] == String.class && arguments[1] instanceof Class<?> value ? value : null;
+        }
+        return arguments.length == 1 && arguments[0] instanceof Class<?> argument ? argument : null;
+    }
+
+    private static ValueExtractor extractorFor(Class<?> type, Class<?> elementType) {
+        if (type == Lazy.class) {
+            return lazy(elementType);
+        }
+        if (type == int[].class) {
+            return ConfigValues::intArray;
+        }
+        if (type == long[].class) {
+            return ConfigValues::longArray;
+        }
+        if (type == double[].class) {
+            return ConfigValues::doubleArray;
+        }
+        if (type == List.class || type == Set.class || type == Map.class) {
+            if (elementType == null || !ConfigValues.isSupportedElement(elementType)) {
+                return unsupported(type);
+            }
+            if (type == List.class) {
+                return (config, key) -> ConfigValues.list(config, key, elementType);
+            }
+            return type == Set.class
+                    ? (config, key) -> ConfigValues.set(config, key, elementType)
+                    : (config, key) -> ConfigValues.map(config, key, elementType);
+        }
+        if (type.isRecord()) {
+            return (config, key) -> ConfigValues.record(config, key, type);
+        }
+        return EXTRACTORS.getOrDefault(type, unsupported(type));
+    }
+
+    private static ValueExtractor lazy(Class<?> recordType) {
+        if (recordType == null) {
+            return unsupported(Lazy.class);
+        }
+        return (config, key) -> Lazy.section(config, key, recordType);
+    }
+
+    private static ValueExtractor unsupported(Class<?> type) {
+        return (config, key) -> {
+            throw new UnsupportedOperationException("Unsupported config type: " + type.getSimpleName());
+        };
+    }
+
+    @Override
+    public List<String> componentNames() {
+        return names;
+    }
+
+    @Override
+    public List<Class<?>> componentTypes() {
+        return types;
+    }
+
+    @Override
+    public List<Class<?>> componentElementTypes() {
+        return elementTypes;
+    }
+
+    @Override
+    public T bind(Config slice) {
+        Object[] args = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            // A lazy section is only required to exist once it is used.
+            String key = types.get(i) == Lazy.class ? keys[i] : ConfigBinder.requireKey(slice, keys[i]);
+            args[i] = extractors[i].extract(slice, key);
+        }
+        return construct(args);
+    }
+
+    @Override
+    public T construct(Object[] args) {
+        try {
+            return recordType.cast((Object) constructor.invokeExact(args));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to construct " + recordType.getSimpleName(), t);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.coreconfig;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted while configuration boots and reloads. They cost nothing
+ * unless a recording is running; enable them with e.g.
+ * {@code -XX:StartFlightRecording:filename=boot.jfr} and look under the "CoreConfig" category.
+ */
+final class BootEvents {
+
+    private BootEvents() {}
+
+    @Name("org.coreconfig.BootPhase")
+    @Label("Config Boot Phase")
+    @Category("CoreConfig")
+    @Description("One phase of loading configuration: load, secrets, resolve, index, render, validator-init or bind.")
+    @StackTrace(false)
+    static final class Phase extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Keys")
+        @Description("Config values involved, e.g. leaf paths resolved or secrets read.")
+        long keys;
+
+        @Label("Size")
+        @Description("Size of the files parsed or secrets read, or characters of the effective config rendered.")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("org.coreconfig.ExternalSectionRead")
+    @Label("Config External Section Read")
+    @Category("CoreConfig")
+    @Description("Mapping and scanning the JSON or CSV file of one externally sourced component.")
+    @StackTrace(false)
+    static final class ExternalSectionRead extends Event {
+        @Label("Path")
+        String path;
+
+        @Label("File")
+        String file;
+
+        @Label("Elements")
+        long elements;
+
+        @Label("Size")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("org.coreconfig.SectionBind")
+    @Label("Config Section Bind")
+    @Category("CoreConfig")
+    @Description("Binding and validating one top-level section into its record.")
+    @StackTrace(false)
+    static final class Section extends Event {
+        @Label("Section")
+        String section;
+
+        @Label("Record Type")
+        Class<?> recordType;
+
+        @Label("Keys")
+        long keys;
+
+        @Label("Succeeded")
+        boolean succeeded;
+    }
+
+    @Name("org.coreconfig.Reload")
+    @Label("Config Reload")
+    @Category("CoreConfig")
+    @Description("One hot reload attempt, from re-parsing the sources to publishing the snapshot.")
+    @StackTrace(false)
+    static final class Reload extends Event {
+        @Label("Published")
+        boolean published;
+
+        @Label("Failed")
+        boolean failed;
+
+        @Label("Changed Sections")
+        String changedSections;
+    }
+}
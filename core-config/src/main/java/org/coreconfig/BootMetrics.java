@@ -0,0 +1,28 @@
+package org.coreconfig;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Where the time of one boot went, returned by {@link SimpleConfig#bootWithMetrics(Class, BootOptions)}.
+ * The same figures are emitted as JDK Flight Recorder events (see the "CoreConfig" category).
+ *
+ * @param total    Wall-clock time of the whole boot.
+ * @param phases   Per phase, in the order they ran: {@code snapshot} (reading or writing the snapshot cache, when
+ *                 enabled; it includes the load phases), {@code load} (parsing the application and profile files),
+ *                 {@code secrets} (reading {@code *_FILE} secrets), {@code resolve} (layering and substitutions),
+ *                 {@code index} (building the {@link ConfigIndex}), {@code render} (the effective-config log),
+ *                 {@code validator-init} (compiling the sections' constraint checks, and Hibernate Validator's
+ *                 bootstrap if a section needs it) and {@code bind} (all sections, wall-clock).
+ * @param sections Per top-level section, the time to bind and validate it.
+ * @param keys     Number of leaf values in the resolved configuration.
+ */
+public record BootMetrics(Duration total, Map<String, Duration> phases, Map<String, Duration> sections, long keys) {
+
+    public BootMetrics {
+        phases = Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+        sections = Collections.unmodifiableMap(new LinkedHashMap<>(sections));
+    }
+}
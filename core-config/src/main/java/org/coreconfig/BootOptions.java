@@ -0,0 +1,108 @@
+package org.coreconfig;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+
+/**
+ * Optional settings for {@link SimpleConfig#boot(Class, BootOptions)}.
+ *
+ * Instances are immutable; each {@code with}-style method returns a modified copy:
+ * <pre>{@code
+ * SimpleConfig.boot(AppConfig.class, BootOptions.defaults().parallel());
+ * }</pre>
+ */
+public final class BootOptions {
+
+    private static final BootOptions DEFAULTS = new BootOptions(false, null, null,
+            Boolean.getBoolean("coreconfig.strict"), ConfigPipeline.defaults());
+
+    private final boolean parallel;
+    private final Executor executor;
+    private final Path snapshotCache;
+    private final boolean strict;
+    private final ConfigPipeline sources;
+
+    private BootOptions(boolean parallel, Executor executor, Path snapshotCache, boolean strict, ConfigPipeline sources) {
+        this.parallel = parallel;
+        this.executor = executor;
+        this.snapshotCache = snapshotCache;
+        this.strict = strict;
+        this.sources = sources;
+    }
+
+    /**
+     * @return Sequential binding, {@link Lazy} sections left unbound (unless {@code -Dcoreconfig.strict=true}):
+     *         the same behaviour as {@link SimpleConfig#boot(Class)}.
+     */
+    public static BootOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Binds and validates the sections of the aggregate concurrently, one virtual thread per section.
+     * The work is CPU-bound, so it is effectively bounded by the virtual-thread carrier pool (one per core).
+     */
+    public BootOptions parallel() {
+        return new BootOptions(true, null, snapshotCache, strict, sources);
+    }
+
+    /**
+     * Binds and validates the sections of the aggregate concurrently on the given executor,
+     * e.g. a bounded pool shared with other startup work. The executor is not shut down.
+     */
+    public BootOptions parallel(Executor executor) {
+        return new BootOptions(true, executor, snapshotCache, strict, sources);
+    }
+
+    /**
+     * Keeps a binary snapshot of the parsed configuration files in the given file and reuses it on the
+     * next boot if no config file, environment variable, system property or the profile has changed.
+     * Only the file layers of {@link #sources(ConfigPipeline)} are written; the other layers, and so every
+     * secret, are loaded and resolved again on every boot.
+     */
+    public BootOptions snapshotCache(Path file) {
+        return new BootOptions(parallel, executor, file, strict, sources);
+    }
+
+    /**
+     * Binds and validates {@link Lazy} sections at boot as well, so every problem in the config fails the boot.
+     * Meant for CI and pre-deploy checks; {@code -Dcoreconfig.strict=true} turns it on for the defaults.
+     */
+    public BootOptions strict() {
+        return new BootOptions(parallel, executor, snapshotCache, true, sources);
+    }
+
+    /**
+     * Loads the configuration from the given sources instead of {@link ConfigPipeline#defaults()},
+     * e.g. to add a directory of site overrides or a mounted secret volume.
+     */
+    public BootOptions sources(ConfigPipeline pipeline) {
+        return new BootOptions(parallel, executor, snapshotCache, strict, pipeline);
+    }
+
+    boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return The executor to bind on, or null to use virtual threads.
+     */
+    Executor executor() {
+        return executor;
+    }
+
+    boolean isStrict() {
+        return strict;
+    }
+
+    ConfigPipeline sources() {
+        return sources;
+    }
+
+    /**
+     * @return The snapshot file, or null if snapshots are disabled.
+     */
+    Path snapshotCache() {
+        return snapshotCache;
+    }
+}
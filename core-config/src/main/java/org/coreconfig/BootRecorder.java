@@ -0,0 +1,132 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Times the phases and sections of one boot (or reload), emitting a {@link BootEvents} event for
+ * each and collecting the durations into {@link BootMetrics}. Sections may be recorded concurrently.
+ */
+final class BootRecorder {
+
+    private final long start = System.nanoTime();
+    private final boolean countKeys;
+    private final Map<String, Duration> phases = new LinkedHashMap<>();
+    private final Map<String, Duration> sections = new LinkedHashMap<>();
+    private long keys;
+
+    BootRecorder() {
+        this(false);
+    }
+
+    /**
+     * @param countKeys Whether {@link BootMetrics#keys()} is wanted; otherwise values are only counted while a
+     *                  recording is running, as counting walks the whole tree.
+     */
+    BootRecorder(boolean countKeys) {
+        this.countKeys = countKeys;
+    }
+
+    /**
+     * A running phase; close it when the phase ends.
+     */
+    final class Phase implements AutoCloseable {
+        private final BootEvents.Phase event = new BootEvents.Phase();
+        private final long phaseStart = System.nanoTime();
+
+        private Phase(String name) {
+            event.phase = name;
+            event.begin();
+        }
+
+        /**
+         * @return Whether anyone reads the key and size counts, i.e. metrics were asked for or a recording is
+         *         running.
+         */
+        boolean measured() {
+            return countKeys || event.isEnabled();
+        }
+
+        /**
+         * Records how many config values the phase handled.
+         */
+        Phase keys(long keys) {
+            event.keys = keys;
+            return this;
+        }
+
+        /**
+         * Records how much data the phase read or wrote, in bytes (characters for the effective-config log).
+         */
+        Phase bytes(long bytes) {
+            event.bytes = bytes;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            event.commit();
+            synchronized (BootRecorder.this) {
+                phases.merge(event.phase, Duration.ofNanos(System.nanoTime() - phaseStart), Duration::plus);
+            }
+        }
+    }
+
+    Phase phase(String name) {
+        return new Phase(name);
+    }
+
+    /**
+     * Starts the event for one section; pass it to {@link #sectionDone} when the section is bound or has failed.
+     */
+    BootEvents.Section section(String name, Class<?> recordType) {
+        BootEvents.Section event = new BootEvents.Section();
+        event.section = name;
+        event.recordType = recordType;
+        event.begin();
+        return event;
+    }
+
+    void sectionDone(BootEvents.Section event, long nanos, boolean succeeded) {
+        event.succeeded = succeeded;
+        event.commit();
+        synchronized (this) {
+            sections.put(event.section, Duration.ofNanos(nanos));
+        }
+    }
+
+    synchronized void keys(long keys) {
+        this.keys = keys;
+    }
+
+    synchronized BootMetrics metrics() {
+        return new BootMetrics(Duration.ofNanos(System.nanoTime() - start), phases, sections, keys);
+    }
+
+    /**
+     * Counts the leaf values under a config value without copying the tree; entries, not {@code values()},
+     * so that equal siblings each count.
+     */
+    static long countLeaves(ConfigValue value) {
+        if (value instanceof ConfigObject object) {
+            long count = 0;
+            for (Map.Entry<String, ConfigValue> child : object.entrySet()) {
+                count += countLeaves(child.getValue());
+            }
+            return count;
+        }
+        if (value instanceof ConfigList list) {
+            long count = 0;
+            for (ConfigValue child : list) {
+                count += countLeaves(child);
+            }
+            return count;
+        }
+        return 1;
+    }
+}
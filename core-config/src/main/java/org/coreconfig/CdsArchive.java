@@ -0,0 +1,120 @@
+package org.coreconfig;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The stamp written next to an AppCDS archive by {@link CdsTraining}, and the boot-time check against it.
+ *
+ * The JVM only maps an archive whose JDK and class path jars (by size and modification time) match the
+ * training run, and otherwise falls back to loading classes normally ({@code -Xshare:auto}, the default).
+ * That fallback is silent, so a stale archive would just make startup slow again; with
+ * {@code -Dcoreconfig.cds.archive=<archive>} the first boot compares the stamp with the running JVM and
+ * logs whether the archive is in use or why it is stale.
+ */
+final class CdsArchive {
+    private static final Logger log = LoggerFactory.getLogger(CdsArchive.class);
+
+    /** The system property naming the archive the JVM was started with, which turns on the check. */
+    static final String ARCHIVE_PROPERTY = "coreconfig.cds.archive";
+
+    private static final AtomicBoolean checked = new AtomicBoolean();
+
+    private CdsArchive() {}
+
+    /**
+     * Checks the archive named by {@value #ARCHIVE_PROPERTY}, once per JVM; does nothing if it is not set.
+     */
+    static void checkOnce() {
+        String archive = System.getProperty(ARCHIVE_PROPERTY);
+        if (archive == null || !checked.compareAndSet(false, true)) {
+            return;
+        }
+        String stale = staleReason(Path.of(archive));
+        if (stale == null) {
+            log.info("Started with CDS archive {}.", archive);
+        } else {
+            log.warn("CDS archive {} is stale ({}); the JVM loads classes normally. Re-run the training to rebuild it.",
+                    archive, stale);
+        }
+    }
+
+    /**
+     * @return Why the archive cannot be used by this JVM, or null if it matches.
+     */
+    static String staleReason(Path archive) {
+        if (!Files.isRegularFile(archive)) {
+            return "no archive";
+        }
+        Path stampFile = stampFile(archive);
+        if (!Files.isRegularFile(stampFile)) {
+            return "no stamp " + stampFile.getFileName();
+        }
+        Properties trained = new Properties();
+        try (InputStream in = Files.newInputStream(stampFile)) {
+            trained.load(in);
+        } catch (IOException e) {
+            return "unreadable stamp: " + e.getMessage();
+        }
+        Properties current = current();
+        for (String key : current.stringPropertyNames()) {
+            if (!current.getProperty(key).equals(trained.getProperty(key))) {
+                return key + " changed since training";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records what the archive was trained with.
+     */
+    static void writeStamp(Path archive, List<String> aggregates) {
+        Properties stamp = current();
+        stamp.setProperty("aggregates", String.join(",", aggregates));
+        try (OutputStream out = Files.newOutputStream(stampFile(archive))) {
+            stamp.store(out, "Training run of " + archive.getFileName());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the stamp of " + archive, e);
+        }
+    }
+
+    private static Path stampFile(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + ".stamp");
+    }
+
+    /**
+     * The JVM and every class path entry, as the JVM itself compares them when it maps an archive.
+     */
+    private static Properties current() {
+        Properties stamp = new Properties();
+        stamp.setProperty("java.vm.version", System.getProperty("java.vm.version"));
+        String classPath = System.getProperty("java.class.path", "");
+        stamp.setProperty("class.path", classPath);
+        String[] entries = classPath.isEmpty() ? new String[0] : classPath.split(java.io.File.pathSeparator);
+        for (int i = 0; i < entries.length; i++) {
+            stamp.setProperty("class.path." + i, entryStamp(Path.of(entries[i])));
+        }
+        return stamp;
+    }
+
+    private static String entryStamp(Path entry) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+            // Directories are never archived, so only jars can go stale.
+            return attributes.isDirectory() ? "directory" : attributes.size() + "@" + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return "missing";
+        }
+    }
+}
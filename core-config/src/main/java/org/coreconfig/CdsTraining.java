@@ -0,0 +1,66 @@
+package org.coreconfig;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Training run for an AppCDS archive of the configuration boot path: boots each aggregate record once, so
+ * that the classes of Typesafe Config, Hibernate Validator, Expressly, Logback and the generated binders are
+ * loaded, and the JVM archives them at exit.
+ *
+ * Run it with exactly the class path the service is started with (the JVM only maps an archive for the
+ * same class path), with the config of any environment:
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=app.jsa -cp app.jar org.coreconfig.CdsTraining com.yourorg.trading.TradingConfig
+ * java -XX:SharedArchiveFile=app.jsa -Dcoreconfig.cds.archive=app.jsa -cp app.jar com.yourorg.trading.Main
+ * </pre>
+ * {@code -Dcoreconfig.cds.archive} makes the first boot log whether the archive is used or why it is stale
+ * (see {@link CdsArchive}). A stale archive is ignored by the JVM, which starts normally; with
+ * {@code -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile=app.jsa} instead, the JVM also rebuilds it on exit.
+ *
+ * The archive is a dynamic AppCDS archive because the build targets JDK 23: the AOT cache
+ * ({@code -XX:AOTCache}, JEP 483), which also keeps classes linked, first ships with JDK 24. On JDK 24 and
+ * later the same training run can record its configuration with {@code -XX:AOTMode=record} instead.
+ *
+ * A boot that fails (e.g. a missing secret on the build machine) is logged and does not fail the training:
+ * by then the classes have been loaded.
+ */
+public final class CdsTraining {
+    private static final Logger log = LoggerFactory.getLogger(CdsTraining.class);
+
+    private CdsTraining() {}
+
+    /**
+     * @param args Class names of the aggregate records to boot; {@link AppConfig} if none.
+     */
+    public static void main(String[] args) throws ClassNotFoundException {
+        List<String> aggregates = args.length == 0 ? List.of(AppConfig.class.getName()) : List.of(args);
+        List<String> failed = new ArrayList<>();
+        for (String aggregate : aggregates) {
+            Class<?> type = Class.forName(aggregate);
+            try {
+                SimpleConfig.Booted<?> booted = SimpleConfig.bootWithMetrics(type, BootOptions.defaults().strict());
+                log.info("Trained boot of {} in {} ms.", type.getSimpleName(), booted.metrics().total().toMillis());
+            } catch (RuntimeException e) {
+                failed.add(type.getSimpleName());
+                log.warn("Training boot of {} failed; its classes are archived up to the failure.", type.getSimpleName(), e);
+            }
+        }
+
+        String archive = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                .getVMOption("ArchiveClassesAtExit").getValue();
+        if (archive.isEmpty()) {
+            log.warn("Not started with -XX:ArchiveClassesAtExit=<archive>; no archive is written.");
+            return;
+        }
+        CdsArchive.writeStamp(Path.of(archive), aggregates);
+        log.info("Archiving the boot path of {} to {} at exit{}.", aggregates, archive,
+                failed.isEmpty() ? "" : " (boot failed for " + failed + ")");
+    }
+}
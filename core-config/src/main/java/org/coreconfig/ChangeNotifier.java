@@ -0,0 +1,128 @@
+package org.coreconfig;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Delivers {@link ConfigChange}s to subscribers in debounced batches on virtual threads.
+ *
+ * The first change after a quiet period opens a batch; changes arriving within the debounce
+ * window are merged into it. When the window closes, each interested listener is invoked on its
+ * own virtual thread, so a slow listener cannot hold up the others or the reload thread.
+ * Once closed, changes are dropped.
+ */
+final class ChangeNotifier<T> implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ChangeNotifier.class);
+
+    private final Duration debounce;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Listener<T>> listeners = new CopyOnWriteArrayList<>();
+
+    private ConfigChange<T> pending; // guarded by this
+    private boolean closed; // guarded by this
+
+    private record Listener<T>(String name, Predicate<ConfigChange<T>> interested, Consumer<ConfigChange<T>> callback) {}
+
+    ChangeNotifier(Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    /**
+     * Registers a listener, returning the action that removes it again.
+     */
+    Runnable add(String name, Predicate<ConfigChange<T>> interested, Consumer<ConfigChange<T>> callback) {
+        Listener<T> listener = new Listener<>(name, interested, callback);
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Queues a change, merging it into the open batch if there is one.
+     */
+    void publish(ConfigChange<T> change) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (pending != null) {
+                pending = merge(pending, change);
+                return;
+            }
+            pending = change;
+        }
+        try {
+            executor.execute(this::flushAfterDebounce);
+        } catch (RejectedExecutionException e) {
+            // Closed in the meantime; don't leave a batch open that nothing will flush.
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            pending = null;
+        }
+        executor.shutdownNow();
+    }
+
+    private void flushAfterDebounce() {
+        try {
+            Thread.sleep(debounce);
+        } catch (InterruptedException e) {
+            return; // Closed.
+        }
+        ConfigChange<T> batch;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            batch = pending;
+            pending = null;
+        }
+        try {
+            for (Listener<T> listener : listeners) {
+                if (listener.interested().test(batch)) {
+                    executor.execute(() -> notify(listener, batch));
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            // Closed while delivering; the remaining listeners are not notified.
+        }
+    }
+
+    private static <T> void notify(Listener<T> listener, ConfigChange<T> batch) {
+        try {
+            listener.callback().accept(batch);
+        } catch (RuntimeException e) {
+            log.error("Config change listener for {} failed.", listener.name(), e);
+        }
+    }
+
+    private static <T> ConfigChange<T> merge(ConfigChange<T> first, ConfigChange<T> second) {
+        Set<String> paths = new TreeSet<>(first.changedPaths());
+        paths.addAll(second.changedPaths());
+        Map<String, Object> sections = new LinkedHashMap<>(first.changedSections());
+        sections.putAll(second.changedSections());
+        return new ConfigChange<>(first.previous(), second.current(), paths, sections);
+    }
+}
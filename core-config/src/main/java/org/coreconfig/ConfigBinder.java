@@ -0,0 +1,69 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binds a config slice to one record type.
+ *
+ * Implementations are either generated at compile time for {@link ConfigRecord} types,
+ * or built reflectively on first use. Both are immutable and shared between threads.
+ */
+public interface ConfigBinder<T> {
+
+    /**
+     * @return The record component names, in canonical-constructor order.
+     */
+    List<String> componentNames();
+
+    /**
+     * @return The record component types, in canonical-constructor order.
+     */
+    List<Class<?>> componentTypes();
+
+    /**
+     * @return For each component declared with a type argument that binding needs, such as
+     *         {@code Lazy<ReportingConfig>} or {@code List<String>}, that argument ({@code ReportingConfig.class},
+     *         {@code String.class}; the value type for a {@code Map}); null for other components.
+     *         In canonical-constructor order.
+     */
+    default List<Class<?>> componentElementTypes() {
+        return Collections.nCopies(componentNames().size(), null);
+    }
+
+    /**
+     * Invokes the canonical constructor with already-bound component values.
+     */
+    T construct(Object[] args);
+
+    /**
+     * Reads every component from the slice (using kebab-case keys) and constructs the record.
+     *
+     * @throws IllegalStateException if a required key is missing.
+     * @throws UnsupportedOperationException if a component has a type that cannot be bound.
+     */
+    T bind(Config slice);
+
+    /**
+     * Checks that a required key is present, returning it for use in the read that follows.
+     */
+    static String requireKey(Config slice, String key) {
+        if (!slice.hasPath(key)) {
+            throw new IllegalStateException("Missing required config key: " + key + " in path " + slice.origin().description());
+        }
+        return key;
+    }
+
+    /**
+     * Returns the name of the generated binder class for a record, e.g. {@code org.app.Outer_Inner_ConfigBinder}.
+     */
+    static String generatedBinderName(Class<?> recordType) {
+        String packageName = recordType.getPackageName();
+        String binaryName = recordType.getName();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String prefix = packageName.isEmpty() ? "" : packageName + ".";
+        return prefix + simpleBinaryName.replace('$', '_') + "_ConfigBinder";
+    }
+}
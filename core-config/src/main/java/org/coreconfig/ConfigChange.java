@@ -0,0 +1,30 @@
+package org.coreconfig;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A batch of configuration changes delivered to subscribers of a {@link ReloadableConfig}.
+ *
+ * When several reloads land within the notification debounce window they are merged into one
+ * change: {@code previous} is the snapshot before the first of them, {@code current} the snapshot
+ * after the last, and the paths and sections are the union.
+ *
+ * @param previous        The aggregate before the change.
+ * @param current         The aggregate after the change.
+ * @param changedPaths    Config paths whose resolved values differ (e.g. {@code db.pool-size}).
+ * @param changedSections Top-level sections that were rebound to a different record, by section name.
+ */
+public record ConfigChange<T>(
+        T previous,
+        T current,
+        Set<String> changedPaths,
+        Map<String, Object> changedSections
+) {
+    /**
+     * @return true if the given path, anything under it, or a subtree containing it changed.
+     */
+    public boolean affects(String path) {
+        return ConfigDiff.affects(changedPaths, path);
+    }
+}
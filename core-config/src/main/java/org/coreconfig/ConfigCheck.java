@@ -0,0 +1,502 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigIncludeContext;
+import com.typesafe.config.ConfigIncluder;
+import com.typesafe.config.ConfigIncluderClasspath;
+import com.typesafe.config.ConfigIncluderFile;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigParseable;
+import com.typesafe.config.ConfigResolveOptions;
+import com.typesafe.config.ConfigResolver;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Command-line check of every service and profile in a repository, for CI:
+ * <pre>
+ * java -cp ... org.coreconfig.ConfigCheck --root . --aggregate org.coreconfig.AppConfig \
+ *      --aggregate trading-engine=com.yourorg.trading.TradingConfig --env QA_DB_USER=ci --report config-check.json
+ * </pre>
+ *
+ * A service is any directory with {@code src/main/resources/application.conf}; its profiles are the
+ * {@code application-<profile>.conf/.json/.properties} files next to it, plus {@code default} for the base file
+ * alone. Each combination is layered like {@link SimpleConfig} does (profile, application, reference), resolved
+ * without the real environment or system properties, bound against its aggregate record and validated,
+ * {@link Lazy} sections included. Substitutions the config does not define are filled from {@code --env} stubs;
+ * those whose names contain "password", "secret" or "token" get a placeholder.
+ *
+ * Combinations are checked concurrently on virtual threads. Every file and every {@code include}d file is
+ * parsed once and shared by all combinations, so a shared {@code db-qa.conf} costs one parse however many
+ * services include it.
+ *
+ * The JSON report lists every combination and its problems; the exit code is 0 if all passed, 1 if any
+ * failed and 2 for bad arguments.
+ */
+public final class ConfigCheck {
+
+    static final String DEFAULT_PROFILE = "default";
+    private static final String DEFAULT_AGGREGATE = "org.coreconfig.AppConfig";
+    private static final List<String> EXTENSIONS = List.of(".conf", ".json", ".properties");
+    private static final Pattern PROFILE_FILE = Pattern.compile("application-(.+)\\.(?:conf|json|properties)");
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("target", "build", "node_modules");
+
+    /**
+     * One service and profile to check.
+     */
+    record Target(String service, Path resources, String profile, String aggregate) {}
+
+    /**
+     * The outcome of checking a target.
+     *
+     * @param stubbed Substitutions given a placeholder because they look like secrets.
+     */
+    record Result(Target target, List<String> problems, Set<String> stubbed, long nanos) {
+        boolean ok() {
+            return problems.isEmpty();
+        }
+    }
+
+    private final Path root;
+    private final String defaultAggregate;
+    private final Map<String, String> aggregates;
+    private final Set<String> profiles;
+    private final Map<String, String> env;
+
+    private final ConfigMapper mapper = new ConfigMapper();
+    private final Map<Path, FutureTask<Config>> files = new ConcurrentHashMap<>();
+    private final Map<String, FutureTask<ConfigObject>> includes = new ConcurrentHashMap<>();
+    private final AtomicInteger parses = new AtomicInteger();
+    private final ThreadLocal<Set<Object>> parsing = ThreadLocal.withInitial(HashSet::new);
+    private final Config reference = ConfigFactory.defaultReferenceUnresolved();
+
+    ConfigCheck(Path root, String defaultAggregate, Map<String, String> aggregates, Set<String> profiles,
+                Map<String, String> env) {
+        this.root = root.toAbsolutePath().normalize();
+        this.defaultAggregate = defaultAggregate;
+        this.aggregates = Map.copyOf(aggregates);
+        this.profiles = profiles == null ? null : Set.copyOf(profiles);
+        this.env = Map.copyOf(env);
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * Runs the check as {@link #main} does, writing the report to the file named by {@code --report} or else
+     * to {@code out}.
+     *
+     * @return The exit code.
+     */
+    static int run(String[] args, PrintStream out) {
+        Path rootDir = Path.of(".");
+        Path report = null;
+        String defaultAggregate = DEFAULT_AGGREGATE;
+        Map<String, String> aggregates = new LinkedHashMap<>();
+        Set<String> profiles = null;
+        Map<String, String> env = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                String value = i + 1 < args.length ? args[++i] : null;
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                switch (option) {
+                    case "--root" -> rootDir = Path.of(value);
+                    case "--report" -> report = Path.of(value);
+                    case "--profiles" -> profiles = new HashSet<>(Arrays.asList(value.split(",")));
+                    case "--aggregate" -> {
+                        int separator = value.indexOf('=');
+                        if (separator < 0) {
+                            defaultAggregate = value;
+                        } else {
+                            aggregates.put(value.substring(0, separator), value.substring(separator + 1));
+                        }
+                    }
+                    case "--env" -> {
+                        int separator = value.indexOf('=');
+                        if (separator <= 0) {
+                            throw new IllegalArgumentException("Expected --env KEY=VALUE, got " + value);
+                        }
+                        env.put(value.substring(0, separator), value.substring(separator + 1));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            System.err.println("Usage: ConfigCheck [--root DIR] [--aggregate CLASS | SERVICE=CLASS]... [--profiles a,b]"
+                    + " [--env KEY=VALUE]... [--report FILE]");
+            return 2;
+        }
+
+        ConfigCheck check = new ConfigCheck(rootDir, defaultAggregate, aggregates, profiles, env);
+        long start = System.nanoTime();
+        List<Result> results = check.checkAll();
+        long nanos = System.nanoTime() - start;
+        String json = check.report(results, nanos);
+        try {
+            if (report == null) {
+                out.println(json);
+            } else {
+                Files.writeString(report, json);
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Cannot write report " + report + ": " + e);
+            return 2;
+        }
+        long failed = results.stream().filter(result -> !result.ok()).count();
+        System.err.printf(Locale.ROOT, "%s: checked %d combination(s) in %.0f ms, %d failed.%n",
+                failed == 0 ? "SUCCESS" : "FAILED", results.size(), nanos / 1_000_000.0, failed);
+        return failed == 0 ? 0 : 1;
+    }
+
+    /**
+     * Discovers and checks every combination concurrently.
+     *
+     * @return The results, in discovery order.
+     */
+    List<Result> checkAll() {
+        List<Target> targets = discover();
+        List<CompletableFuture<Result>> checks = new ArrayList<>(targets.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Target target : targets) {
+                checks.add(CompletableFuture.supplyAsync(() -> check(target), executor));
+            }
+        }
+        return checks.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * @return The number of files and includes parsed so far; each is parsed at most once.
+     */
+    int parses() {
+        return parses.get();
+    }
+
+    // ---- Discovery ----
+
+    List<Target> discover() {
+        List<Path> resourceDirs = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    String name = dir.getFileName() == null ? "" : dir.getFileName().toString();
+                    if (!dir.equals(root) && (name.startsWith(".") || SKIPPED_DIRECTORIES.contains(name))) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (dir.endsWith(Path.of("src", "main", "resources")) && Files.isRegularFile(dir.resolve("application.conf"))) {
+                        resourceDirs.add(dir);
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot scan " + root, e);
+        }
+        resourceDirs.sort(null);
+
+        List<Target> targets = new ArrayList<>();
+        for (Path resources : resourceDirs) {
+            Path module = resources.getParent().getParent().getParent();
+            String service = root.equals(module) ? String.valueOf(root.getFileName()) : root.relativize(module).toString();
+            String aggregate = aggregates.getOrDefault(service, defaultAggregate);
+            for (String profile : profilesOf(resources)) {
+                if (profiles == null || profiles.contains(profile)) {
+                    targets.add(new Target(service, resources, profile, aggregate));
+                }
+            }
+        }
+        return targets;
+    }
+
+    private static Set<String> profilesOf(Path resources) {
+        Set<String> found = new TreeSet<>();
+        found.add(DEFAULT_PROFILE);
+        try (var entries = Files.list(resources)) {
+            entries.forEach(file -> {
+                Matcher matcher = PROFILE_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    found.add(matcher.group(1));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list " + resources, e);
+        }
+        return found;
+    }
+
+    // ---- Checking ----
+
+    Result check(Target target) {
+        long start = System.nanoTime();
+        Set<String> stubbed = new TreeSet<>();
+        List<String> problems = new ArrayList<>();
+        try {
+            Config layered = parse(target.resources().resolve("application.conf"));
+            if (!DEFAULT_PROFILE.equals(target.profile())) {
+                layered = profile(target.resources(), target.profile()).withFallback(layered);
+            }
+            Config resolved = layered.withFallback(reference)
+                    .resolve(ConfigResolveOptions.noSystem().appendResolver(new Stubs(env, stubbed)));
+            bind(resolved, Class.forName(target.aggregate(), true, Thread.currentThread().getContextClassLoader()));
+        } catch (ConfigValidationException e) {
+            problems.addAll(e.problems());
+        } catch (ClassNotFoundException e) {
+            problems.add("Unknown aggregate record " + target.aggregate());
+        } catch (RuntimeException e) {
+            problems.add(describe(e));
+        }
+        return new Result(target, List.copyOf(problems), Set.copyOf(stubbed), System.nanoTime() - start);
+    }
+
+    /**
+     * Binds and validates every section, as a strict boot would, and reports all problems together.
+     */
+    private <T> void bind(Config resolved, Class<T> aggregateType) {
+        ConfigBinder<T> binder = ConfigMapper.binder(aggregateType);
+        List<String> names = binder.componentNames();
+        Object[] sections = new Object[names.size()];
+        RuntimeException[] failures = new RuntimeException[names.size()];
+        for (int i = 0; i < sections.length; i++) {
+            try {
+                sections[i] = SectionBinder.bindSection(mapper, resolved, names.get(i), binder.componentTypes().get(i),
+                        binder.componentElementTypes().get(i), true);
+            } catch (RuntimeException e) {
+                failures[i] = e;
+            }
+        }
+        ConfigValidationException failure = SectionBinder.aggregate(names, failures);
+        if (failure != null) {
+            throw failure;
+        }
+        binder.construct(sections);
+    }
+
+    private Config profile(Path resources, String profile) {
+        for (String extension : EXTENSIONS) {
+            Path file = resources.resolve("application-" + profile + extension);
+            if (Files.isRegularFile(file)) {
+                return parse(file);
+            }
+        }
+        return ConfigFactory.empty();
+    }
+
+    private Config parse(Path file) {
+        ConfigParseOptions options = ConfigParseOptions.defaults().setIncluder(new CachingIncluder(null));
+        return once(files, file, () -> ConfigFactory.parseFile(file.toFile(), options));
+    }
+
+    /**
+     * Returns the cached value for a key, computing it on this thread if no other thread is. Unlike
+     * {@code computeIfAbsent}, the computation may itself use the cache (for nested includes).
+     */
+    private <K, V> V once(Map<K, FutureTask<V>> cache, K key, Callable<V> compute) {
+        if (!parsing.get().add(key)) {
+            throw new IllegalStateException("Include cycle through " + key);
+        }
+        try {
+            FutureTask<V> task = cache.get(key);
+            if (task == null) {
+                FutureTask<V> created = new FutureTask<>(() -> {
+                    parses.incrementAndGet();
+                    return compute.call();
+                });
+                task = cache.putIfAbsent(key, created);
+                if (task == null) {
+                    task = created;
+                    task.run();
+                }
+            }
+            // Bounded, so that a cycle split across two threads fails rather than hangs.
+            return task.get(1, TimeUnit.MINUTES);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing " + key, e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Timed out waiting for " + key + " to be parsed; is there an include cycle?", e);
+        } finally {
+            parsing.get().remove(key);
+        }
+    }
+
+    private static String describe(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root == failure ? String.valueOf(failure.getMessage()) : failure.getMessage() + ": " + root.getMessage();
+    }
+
+    /**
+     * Fills substitutions the config does not define: from the {@code --env} stubs, or with a placeholder for
+     * names that look like secrets. Anything else stays unresolved and is reported.
+     */
+    private record Stubs(Map<String, String> env, Set<String> stubbed, ConfigResolver fallback) implements ConfigResolver {
+        Stubs(Map<String, String> env, Set<String> stubbed) {
+            this(env, stubbed, null);
+        }
+
+        @Override
+        public ConfigValue lookup(String path) {
+            String value = env.get(path);
+            if (value != null) {
+                return ConfigValueFactory.fromAnyRef(value, "stub env " + path);
+            }
+            if (ConfigLoader.isSecretKey(path)) {
+                stubbed.add(path);
+                return ConfigValueFactory.fromAnyRef("stub-secret", "stub secret " + path);
+            }
+            return fallback == null ? null : fallback.lookup(path);
+        }
+
+        @Override
+        public ConfigResolver withFallback(ConfigResolver next) {
+            return next == null ? this : new Stubs(env, stubbed, fallback == null ? next : fallback.withFallback(next));
+        }
+    }
+
+    /**
+     * Parses each {@code include}d file or resource once and shares it between every file that includes it.
+     * The key is where the include resolves to from the including file, so a service's own file of the same
+     * name is not confused with a shared one.
+     */
+    private final class CachingIncluder implements ConfigIncluder, ConfigIncluderFile, ConfigIncluderClasspath {
+        private final ConfigIncluder fallback;
+
+        CachingIncluder(ConfigIncluder fallback) {
+            this.fallback = fallback;
+        }
+
+        @Override
+        public ConfigIncluder withFallback(ConfigIncluder next) {
+            return fallback == next ? this : new CachingIncluder(next);
+        }
+
+        @Override
+        public ConfigObject include(ConfigIncludeContext context, String what) {
+            StringBuilder key = new StringBuilder(what);
+            for (String suffix : List.of("", ".conf", ".json", ".properties")) {
+                ConfigParseable candidate = context.relativeTo(what + suffix);
+                if (candidate != null) {
+                    key.append('|').append(candidate.origin().description());
+                }
+            }
+            return once(includes, key.toString(), () -> fallback.include(context, what));
+        }
+
+        @Override
+        public ConfigObject includeFile(ConfigIncludeContext context, File what) {
+            return once(includes, "file:" + what.getAbsolutePath(),
+                    () -> ((ConfigIncluderFile) fallback).includeFile(context, what));
+        }
+
+        @Override
+        public ConfigObject includeResources(ConfigIncludeContext context, String what) {
+            return once(includes, "classpath:" + what,
+                    () -> ((ConfigIncluderClasspath) fallback).includeResources(context, what));
+        }
+    }
+
+    // ---- Report ----
+
+    String report(List<Result> results, long nanos) {
+        long failed = results.stream().filter(result -> !result.ok()).count();
+        StringBuilder json = new StringBuilder(256 + results.size() * 128);
+        json.append("{\n");
+        json.append("  \"root\": ").append(quote(root.toString())).append(",\n");
+        json.append("  \"combinations\": ").append(results.size()).append(",\n");
+        json.append("  \"failed\": ").append(failed).append(",\n");
+        json.append("  \"parsedFiles\": ").append(parses()).append(",\n");
+        json.append("  \"elapsedMillis\": ").append(nanos / 1_000_000).append(",\n");
+        json.append("  \"results\": [");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {");
+            json.append("\"service\": ").append(quote(result.target().service()));
+            json.append(", \"profile\": ").append(quote(result.target().profile()));
+            json.append(", \"aggregate\": ").append(quote(result.target().aggregate()));
+            json.append(", \"ok\": ").append(result.ok());
+            json.append(", \"elapsedMicros\": ").append(result.nanos() / 1_000);
+            json.append(", \"stubbedSecrets\": ").append(array(result.stubbed()));
+            json.append(", \"problems\": ").append(array(result.problems()));
+            json.append('}');
+        }
+        json.append(results.isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}");
+        return json.toString();
+    }
+
+    private static String array(Iterable<String> values) {
+        StringBuilder json = new StringBuilder("[");
+        for (String value : values) {
+            json.append(json.length() == 1 ? "" : ", ").append(quote(value));
+        }
+        return json.append(']').toString();
+    }
+
+    private static String quote(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,67 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compares two resolved config trees and reports which paths differ.
+ *
+ * Objects are compared key by key; anything else (scalars, lists) is compared as a whole value,
+ * ignoring origins. A reported path is the deepest point where the trees diverge, so a changed
+ * {@code db.pool-size} is reported as exactly that, and a removed {@code db} block as {@code db}.
+ */
+final class ConfigDiff {
+
+    private ConfigDiff() {}
+
+    /**
+     * @return The sorted set of paths whose values were added, removed or changed.
+     */
+    static Set<String> changedPaths(ConfigObject before, ConfigObject after) {
+        Set<String> changed = new TreeSet<>();
+        diff(new ArrayList<>(), before, after, changed);
+        return changed;
+    }
+
+    /**
+     * @return true if any changed path is the given path, lies under it, or replaced a subtree containing it.
+     */
+    static boolean affects(Set<String> changedPaths, String path) {
+        for (String changed : changedPaths) {
+            if (changed.equals(path) || changed.startsWith(path + ".") || path.startsWith(changed + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void diff(List<String> prefix, ConfigValue before, ConfigValue after, Set<String> changed) {
+        if (before == after) {
+            return; // Shared, unchanged subtree.
+        }
+        if (before instanceof ConfigObject beforeObject && after instanceof ConfigObject afterObject) {
+            Set<String> keys = new LinkedHashSet<>(beforeObject.keySet());
+            keys.addAll(afterObject.keySet());
+            for (String key : keys) {
+                prefix.add(key);
+                ConfigValue b = beforeObject.get(key);
+                ConfigValue a = afterObject.get(key);
+                if (b == null || a == null) {
+                    changed.add(ConfigUtil.joinPath(prefix));
+                } else {
+                    diff(prefix, b, a, changed);
+                }
+                prefix.remove(prefix.size() - 1);
+            }
+        } else if (!before.equals(after)) {
+            changed.add(prefix.isEmpty() ? "" : ConfigUtil.joinPath(prefix));
+        }
+    }
+}
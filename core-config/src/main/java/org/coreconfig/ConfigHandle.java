@@ -0,0 +1,74 @@
+package org.coreconfig;
+
+import java.util.Objects;
+
+/**
+ * A lock-free, versioned view of one piece of configuration (the aggregate or a single section).
+ *
+ * Reads are a single volatile load of an immutable snapshot and never allocate, so they are safe to
+ * call on every request. The version starts at 0 and increases by one each time a different value
+ * is published, which lets callers cache derived objects and rebuild them only when it moves:
+ *
+ * <pre>{@code
+ * ConfigHandle.Snapshot<DbConfig> db = dbHandle.snapshot();
+ * if (dbHandle.hasChangedSince(cachedVersion)) { ... rebuild from db.value(), remember db.version() ... }
+ * }</pre>
+ *
+ * Handles are produced by {@link ReloadableConfig#handle()} and {@link ReloadableConfig#handle(java.util.function.Function)}.
+ */
+public final class ConfigHandle<T> {
+
+    /**
+     * A value together with the version it was published under.
+     */
+    public record Snapshot<T>(T value, long version) {}
+
+    private volatile Snapshot<T> snapshot;
+
+    ConfigHandle(T initial) {
+        this.snapshot = new Snapshot<>(Objects.requireNonNull(initial), 0);
+    }
+
+    /**
+     * @return The current value.
+     */
+    public T get() {
+        return snapshot.value;
+    }
+
+    /**
+     * @return The version of the current value.
+     */
+    public long version() {
+        return snapshot.version;
+    }
+
+    /**
+     * @return The current value and its version, read together.
+     */
+    public Snapshot<T> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return true if a different value has been published since the given version was observed.
+     */
+    public boolean hasChangedSince(long version) {
+        return snapshot.version != version;
+    }
+
+    /**
+     * Publishes a value, bumping the version only if its content differs from the current one (see {@link SectionContent}).
+     * Callers must serialize publishes; {@link ReloadableConfig} does so under its reload lock.
+     *
+     * @return true if the value changed.
+     */
+    boolean publish(T value) {
+        Snapshot<T> current = snapshot;
+        if (SectionContent.equal(current.value, value)) {
+            return false;
+        }
+        snapshot = new Snapshot<>(value, current.version + 1);
+        return true;
+    }
+}
@@ -0,0 +1,295 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigOrigin;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A flat, immutable index of every value in a resolved config, for code that still reads config by path
+ * at runtime (e.g. {@code index.getDuration("db.timeout")} in a plugin's message handler).
+ *
+ * Each path is turned into an integer token once; tokens are process-wide and stay valid across reloads,
+ * so a caller can look a token up at startup and keep it. Values are converted when the index is built,
+ * so {@code getDuration(token)} or {@code getLong(token)} is a single array read that does not allocate.
+ * Lookups by path string cost one extra hash lookup to find the token, and never register a new one.
+ *
+ * Conversions follow Typesafe Config: numeric strings read as numbers, numbers read as durations in
+ * milliseconds, and "yes"/"on"/"true" read as booleans. Lists and objects are not indexed.
+ */
+public final class ConfigIndex {
+
+    private static final Map<String, Integer> TOKENS = new ConcurrentHashMap<>();
+    private static final Pattern DURATION_LIKE = Pattern.compile("\\s*[+-]?[0-9.]+(?:[eE][+-]?[0-9]+)?\\s*[a-zA-Z]*\\s*");
+
+    private static final byte HAS_LONG = 1;
+    private static final byte HAS_DOUBLE = 1 << 1;
+    private static final byte HAS_BOOLEAN = 1 << 2;
+
+    /** Indexed by token; null where this config has no value for the token's path. */
+    private final ConfigValueType[] types;
+    private final String[] strings;
+    private final long[] longs;
+    private final double[] doubles;
+    private final Duration[] durations;
+    private final byte[] flags;
+    private final ConfigOrigin[] origins;
+    private final int size;
+
+    private ConfigIndex(int capacity, int[] tokens, ConfigValue[] values, int count) {
+        this.types = new ConfigValueType[capacity];
+        this.strings = new String[capacity];
+        this.longs = new long[capacity];
+        this.doubles = new double[capacity];
+        this.durations = new Duration[capacity];
+        this.flags = new byte[capacity];
+        this.origins = new ConfigOrigin[capacity];
+        this.size = count;
+        for (int i = 0; i < count; i++) {
+            put(tokens[i], values[i]);
+        }
+    }
+
+    /**
+     * Indexes every scalar value of a resolved config.
+     */
+    public static ConfigIndex of(Config resolved) {
+        Set<Map.Entry<String, ConfigValue>> entries = resolved.entrySet();
+        int[] tokens = new int[entries.size()];
+        ConfigValue[] values = new ConfigValue[entries.size()];
+        int count = 0;
+        int maxToken = -1;
+        for (Map.Entry<String, ConfigValue> entry : entries) {
+            ConfigValueType type = entry.getValue().valueType();
+            if (type == ConfigValueType.LIST || type == ConfigValueType.OBJECT) {
+                continue;
+            }
+            tokens[count] = token(entry.getKey());
+            values[count] = entry.getValue();
+            maxToken = Math.max(maxToken, tokens[count]);
+            count++;
+        }
+        return new ConfigIndex(maxToken + 1, tokens, values, count);
+    }
+
+    /**
+     * Returns the token for a path, registering it if it was never seen. The same path always gets the
+     * same token, in every index of this process.
+     *
+     * @param path A path expression as used with {@code Config}, e.g. {@code "db.timeout"}.
+     */
+    public static int token(String path) {
+        Integer token = TOKENS.get(path);
+        if (token != null) {
+            return token;
+        }
+        synchronized (TOKENS) {
+            return TOKENS.computeIfAbsent(path, p -> TOKENS.size());
+        }
+    }
+
+    /**
+     * Finds the token of a path that some index has seen, without registering unknown paths: a typo or a
+     * dynamically built path must not grow the token table (and every later index) for the life of the process.
+     *
+     * @throws ConfigException.Missing if no config of this process ever had the path.
+     */
+    private static int lookup(String path) {
+        Integer token = TOKENS.get(path);
+        if (token == null) {
+            throw new ConfigException.Missing(path);
+        }
+        return token;
+    }
+
+    /**
+     * @return The number of paths registered in this process.
+     */
+    static int tokenCount() {
+        return TOKENS.size();
+    }
+
+    /**
+     * @return The number of indexed values.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean hasPath(int token) {
+        return token >= 0 && token < types.length && types[token] != null && types[token] != ConfigValueType.NULL;
+    }
+
+    public boolean hasPath(String path) {
+        Integer token = TOKENS.get(path);
+        return token != null && hasPath(token);
+    }
+
+    public String getString(int token) {
+        return strings[require(token)];
+    }
+
+    public String getString(String path) {
+        return getString(lookup(path));
+    }
+
+    public int getInt(int token) {
+        long value = getLong(token);
+        if ((int) value != value) {
+            throw new ConfigException.BadValue(origins[token], pathOf(token), "Number " + value + " is out of range for int");
+        }
+        return (int) value;
+    }
+
+    public int getInt(String path) {
+        return getInt(lookup(path));
+    }
+
+    public long getLong(int token) {
+        return longs[require(token, HAS_LONG, "NUMBER")];
+    }
+
+    public long getLong(String path) {
+        return getLong(lookup(path));
+    }
+
+    public double getDouble(int token) {
+        return doubles[require(token, HAS_DOUBLE, "NUMBER")];
+    }
+
+    public double getDouble(String path) {
+        return getDouble(lookup(path));
+    }
+
+    public boolean getBoolean(int token) {
+        return longs[require(token, HAS_BOOLEAN, "BOOLEAN")] != 0;
+    }
+
+    public boolean getBoolean(String path) {
+        return getBoolean(lookup(path));
+    }
+
+    public Duration getDuration(int token) {
+        Duration duration = durations[require(token)];
+        if (duration == null) {
+            throw new ConfigException.BadValue(origins[token], pathOf(token), "Value " + quoted(token) + " is not a duration");
+        }
+        return duration;
+    }
+
+    public Duration getDuration(String path) {
+        return getDuration(lookup(path));
+    }
+
+    // ---- Building ----
+
+    private void put(int token, ConfigValue value) {
+        ConfigValueType type = value.valueType();
+        types[token] = type;
+        origins[token] = value.origin();
+        if (type == ConfigValueType.NULL) {
+            return;
+        }
+        Object unwrapped = value.unwrapped();
+        strings[token] = type == ConfigValueType.STRING ? (String) unwrapped : value.render();
+        if (type == ConfigValueType.BOOLEAN) {
+            setBoolean(token, (Boolean) unwrapped);
+            return;
+        }
+        if (unwrapped instanceof Number number) {
+            setNumber(token, number);
+            durations[token] = Duration.ofMillis(number.longValue());
+            return;
+        }
+        // A string: keep whichever of Typesafe's conversions apply.
+        String text = strings[token];
+        switch (text) {
+            case "true", "yes", "on" -> setBoolean(token, true);
+            case "false", "no", "off" -> setBoolean(token, false);
+            default -> {
+                if (DURATION_LIKE.matcher(text).matches()) {
+                    Config holder = value.atKey("v");
+                    convertString(token, holder);
+                }
+            }
+        }
+    }
+
+    private void convertString(int token, Config holder) {
+        try {
+            setNumber(token, holder.getNumber("v"));
+        } catch (ConfigException notANumber) {
+            // Not numeric, e.g. "10s".
+        }
+        try {
+            durations[token] = holder.getDuration("v");
+        } catch (ConfigException notADuration) {
+            // Not a duration, e.g. "1.2.3".
+        }
+    }
+
+    private void setNumber(int token, Number number) {
+        double value = number.doubleValue();
+        doubles[token] = value;
+        flags[token] |= HAS_DOUBLE;
+        if (number instanceof Integer || number instanceof Long) {
+            longs[token] = number.longValue();
+            flags[token] |= HAS_LONG;
+        } else if (value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+            longs[token] = (long) value;
+            flags[token] |= HAS_LONG;
+        }
+    }
+
+    private void setBoolean(int token, boolean value) {
+        longs[token] = value ? 1 : 0;
+        flags[token] |= HAS_BOOLEAN;
+    }
+
+    // ---- Errors ----
+
+    private int require(int token) {
+        if (!hasPath(token)) {
+            if (token >= 0 && token < types.length && types[token] == ConfigValueType.NULL) {
+                throw new ConfigException.Null(origins[token], pathOf(token), null);
+            }
+            throw new ConfigException.Missing(pathOf(token));
+        }
+        return token;
+    }
+
+    private int require(int token, byte flag, String expected) {
+        require(token);
+        if ((flags[token] & flag) == 0) {
+            throw new ConfigException.WrongType(origins[token], pathOf(token), expected, types[token].name());
+        }
+        return token;
+    }
+
+    private String quoted(int token) {
+        return ConfigLoader.isSecretKey(pathOf(token)) ? "[REDACTED]" : "'" + strings[token] + "'";
+    }
+
+    /**
+     * Finds the path of a token, for error messages only.
+     */
+    private static String pathOf(int token) {
+        return TOKENS.entrySet().stream()
+                .filter(entry -> entry.getValue() == token)
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse("<token " + token + ">");
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigIndex[" + size + " values]";
+    }
+}
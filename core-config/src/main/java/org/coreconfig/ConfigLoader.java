@@ -0,0 +1,213 @@
+package org.coreconfig;
+
+import com.typesafe.config.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Internal utility for resolving secrets and layering system properties.
+ */
+public final class ConfigLoader {
+    private static final Logger log = LoggerFactory.getLogger(ConfigLoader.class);
+
+    private static final SecretFileResolver SECRETS =
+            new SecretFileResolver(SecretFileResolver.fromEnvironment(), SecretFileResolver.DEFAULT_TIMEOUT);
+
+    /** Default limit of the logged effective config; the renderer's own 1 MiB default suits explicit dumps. */
+    static final int LOG_MAX_CHARS = 64 * 1024;
+    /** Characters of rendered config per log event. */
+    private static final int LOG_CHUNK_CHARS = 8 * 1024;
+
+    private static volatile ConfigIndex index;
+
+    private ConfigLoader() {}
+
+    /**
+     * Takes a base config (e.g., from file) and layers secrets and system properties on top. The result
+     * becomes the configuration {@link #index()} returns.
+     */
+    public static Config load(Config baseConfig) {
+        return load(baseConfig, new BootRecorder());
+    }
+
+    /**
+     * As {@link #load(Config)}, timing the secret and resolve phases into the recorder.
+     */
+    static Config load(Config baseConfig, BootRecorder recorder) {
+        // Final resolution order: System Properties > Secrets > Loaded Files
+        Config loaded = ConfigPipeline.of(
+                ConfigSource.systemProperties(),
+                ConfigSource.secretFiles(),
+                ConfigSource.of("base", () -> baseConfig)).load(recorder);
+        publishIndex(loaded, recorder);
+        return loaded;
+    }
+
+    /**
+     * Returns the flat index of the application's configuration, for fast lookups by path or token: the one most
+     * recently booted or reloaded by {@link SimpleConfig}, or loaded by {@link #load(Config)}. Other loads, such
+     * as a {@link ConfigRegistry}'s base or a bare {@link ConfigPipeline#load()}, do not replace it.
+     *
+     * @throws IllegalStateException if no configuration has been loaded yet.
+     */
+    public static ConfigIndex index() {
+        ConfigIndex current = index;
+        if (current == null) {
+            throw new IllegalStateException("No configuration has been loaded yet");
+        }
+        return current;
+    }
+
+    /**
+     * Builds the index of a resolved config and makes it the one {@link #index()} returns.
+     */
+    static void publishIndex(Config resolved, BootRecorder recorder) {
+        try (BootRecorder.Phase phase = recorder.phase("index")) {
+            ConfigIndex built = ConfigIndex.of(resolved);
+            phase.keys(built.size());
+            index = built;
+        }
+    }
+
+    /**
+     * Logs the effective configuration, redacting any path that appears to hold a secret. At most
+     * {@value #LOG_MAX_CHARS} characters are logged.
+     */
+    public static void logEffectiveConfig(Config config) {
+        logRendered(config, ConfigRenderer.defaults().maxChars(LOG_MAX_CHARS));
+    }
+
+    /**
+     * Logs the effective configuration through the given renderer, e.g. to log only some sections
+     * or to use a different redaction rule. The output is bounded by the renderer's size limit, and
+     * streamed to the log in events of whole lines, so the whole rendering is never held in memory.
+     */
+    public static void logEffectiveConfig(Config config, ConfigRenderer renderer) {
+        logRendered(config, renderer);
+    }
+
+    /**
+     * Like {@link #logEffectiveConfig(Config, ConfigRenderer)}.
+     *
+     * @return The number of characters logged; 0 if info logging is off.
+     */
+    static long logRendered(Config config, ConfigRenderer renderer) {
+        if (!log.isInfoEnabled()) {
+            return 0;
+        }
+        boolean[] first = {true};
+        try (ChunkWriter out = new ChunkWriter(LOG_CHUNK_CHARS, (chunk, last) -> {
+            String header = first[0] ? "Effective application configuration:\n---\n" : "Effective application configuration (continued):\n";
+            first[0] = false;
+            log.info("{}{}{}", header, chunk, last ? "---" : "");
+        })) {
+            renderer.render(config, out);
+            return out.written();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // ChunkWriter does not throw
+        }
+    }
+
+    /**
+     * Passes written text on in chunks of whole lines (a longer line is split), holding at most two chunks.
+     * The last chunk is passed on when the writer is closed, flagged as the last one.
+     */
+    static final class ChunkWriter extends Writer {
+        private final int chunkChars;
+        private final BiConsumer<String, Boolean> sink;
+        private final StringBuilder buffer;
+        private String pending;
+        private long written;
+
+        ChunkWriter(int chunkChars, BiConsumer<String, Boolean> sink) {
+            this.chunkChars = chunkChars;
+            this.sink = sink;
+            this.buffer = new StringBuilder(chunkChars);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            buffer.append(chars, offset, length);
+            written += length;
+            while (buffer.length() >= chunkChars) {
+                int end = buffer.lastIndexOf("\n", chunkChars - 1) + 1;
+                if (end == 0) {
+                    end = chunkChars;
+                }
+                emit(buffer.substring(0, end));
+                buffer.delete(0, end);
+            }
+        }
+
+        /**
+         * @return The number of characters written so far.
+         */
+        long written() {
+            return written;
+        }
+
+        @Override
+        public void flush() {
+            // Chunks are only passed on once full, or on close.
+        }
+
+        @Override
+        public void close() {
+            if (!buffer.isEmpty()) {
+                emit(buffer.toString());
+                buffer.setLength(0);
+            }
+            sink.accept(pending == null ? "" : pending, true);
+            pending = null;
+        }
+
+        private void emit(String chunk) {
+            if (pending != null) {
+                sink.accept(pending, false);
+            }
+            pending = chunk;
+        }
+    }
+
+    /**
+     * Returns true for keys that look like they hold secrets: any containing "password", "secret" or "token".
+     */
+    static boolean isSecretKey(String key) {
+        String lower = key.toLowerCase();
+        return lower.contains("password") || lower.contains("secret") || lower.contains("token");
+    }
+
+    /**
+     * Returns the root keys the secret-file layer provides, e.g. DB_PASSWORD for DB_PASSWORD_FILE.
+     */
+    static Set<String> secretKeys() {
+        return SECRETS.references().keySet();
+    }
+
+    /**
+     * Returns the secret files referenced by environment variables ending in _FILE.
+     */
+    static List<Path> secretFiles() {
+        return List.copyOf(SECRETS.references().values());
+    }
+
+    /**
+     * Reads the files referenced by environment variables ending in _FILE (concurrently, and only those
+     * that changed since the last load) and returns their contents keyed by the variable name without _FILE.
+     */
+    static Config resolveSecretsFromFiles() {
+        SecretFileResolver.Resolution secrets = SECRETS.resolve();
+        if (!secrets.changedKeys().isEmpty()) {
+            log.info("Resolved {} secrets from file paths; changed: {}.", secrets.config().root().size(), secrets.changedKeys());
+        }
+        return secrets.config();
+    }
+}
@@ -0,0 +1,108 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import java.util.List;
+
+/**
+ * A generic, reusable binder that maps a Typesafe Config path to an immutable Java Record.
+ * It automatically validates the resulting record instance using jakarta.validation annotations
+ * (see {@link RecordValidator}).
+ *
+ * Binders are resolved once per record type and cached, so repeated mapping
+ * (tests, reloads, multi-tenant hosts) does no reflective lookups. A compile-time generated
+ * binder is preferred when present (see {@link ConfigRecord}); set
+ * {@code -Dcoreconfig.generatedBinders=false} to force the reflective path.
+ */
+public final class ConfigMapper {
+    private static final boolean USE_GENERATED_BINDERS =
+            Boolean.parseBoolean(System.getProperty("coreconfig.generatedBinders", "true"));
+
+    private static final ClassValue<ConfigBinder<?>> BINDERS = new ClassValue<>() {
+        @Override
+        protected ConfigBinder<?> computeValue(Class<?> type) {
+            ConfigBinder<?> generated = USE_GENERATED_BINDERS ? generatedBinder(type) : null;
+            return generated != null ? generated : BindingPlan.compile(type);
+        }
+    };
+
+    /**
+     * Maps a configuration path to a record of the specified type.
+     *
+     * @param root The root configuration object.
+     * @param path The path to the config slice (e.g., "http", "db").
+     * @param recordType The .class of the record to map to.
+     * @return A validated, populated instance of the record.
+     * @throws ConfigValidationException if validation fails.
+     * @throws RuntimeException for mapping errors.
+     */
+    public <T> T map(Config root, String path, Class<T> recordType) {
+        if (!root.hasPath(path)) {
+            throw new IllegalArgumentException("Configuration path not found: " + path);
+        }
+        Config slice = root.getConfig(path);
+
+        T instance;
+        try {
+            instance = binder(recordType).bind(slice);
+        } catch (ConfigValidationException e) {
+            // A nested record failed validation; its problems already carry their paths.
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to map config path '" + path + "' to " + recordType.getSimpleName(), e);
+        }
+
+        validate(instance);
+        return instance;
+    }
+
+    /**
+     * Binds and validates a record nested in another one (a component, or an element of a list or map).
+     *
+     * @param path The slice's path relative to the enclosing record; prefixed to every problem.
+     * @throws ConfigValidationException if the nested record, or one nested inside it, is invalid.
+     */
+    static <T> T bindNested(Config slice, String path, Class<T> recordType) {
+        T instance;
+        try {
+            instance = binder(recordType).bind(slice);
+        } catch (ConfigValidationException e) {
+            throw e.prefixed(path);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Failed to map config path '" + path + "' to " + recordType.getSimpleName(), e);
+        }
+        List<String> problems = RecordValidator.problems(instance);
+        if (!problems.isEmpty()) {
+            throw new ConfigValidationException(problems).prefixed(path);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the cached binder for a record type, resolving it on first use.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ConfigBinder<T> binder(Class<T> recordType) {
+        return (ConfigBinder<T>) BINDERS.get(recordType);
+    }
+
+    /**
+     * Loads the binder generated for a {@link ConfigRecord} type, or returns null if there is none.
+     */
+    private static ConfigBinder<?> generatedBinder(Class<?> recordType) {
+        try {
+            Class<?> binderClass = Class.forName(ConfigBinder.generatedBinderName(recordType), true, recordType.getClassLoader());
+            return (ConfigBinder<?>) binderClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate generated binder for " + recordType.getName(), e);
+        }
+    }
+
+    private <T> void validate(T bean) {
+        List<String> problems = RecordValidator.problems(bean);
+        if (!problems.isEmpty()) {
+            throw new ConfigValidationException(problems);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * An ordered list of {@link ConfigSource}s, from highest to lowest priority, that together make up the
+ * configuration. Loading reads every source concurrently on virtual threads, layers them with
+ * {@code withFallback} in priority order and resolves the result once, so substitutions such as
+ * {@code ${?DB_PASSWORD}} can refer to any layer.
+ *
+ * The pipeline keeps the last parse of every source that reports a {@link ConfigSource#version()} and reuses
+ * it while that version and the stamps of every file the parse came from are unchanged, so a reload only
+ * re-parses what changed. Parses of files modified in the last few seconds are not kept, since their stamps
+ * may not yet reflect a rewrite.
+ *
+ * The default layering, used by {@link SimpleConfig} in every profile, is:
+ * system properties &gt; secret files &gt; {@code CONFIG_FORCE_*} environment (only with
+ * {@code -Dconfig.override_with_env_vars=true}) &gt; profile file &gt; application file &gt; reference files. Instances are immutable apart from the cache; the
+ * {@code above}/{@code below} methods return modified copies with an empty cache:
+ * <pre>{@code
+ * ConfigPipeline pipeline = ConfigPipeline.defaults()
+ *         .above("application", ConfigSource.directory(Path.of("/etc/orders/conf.d")))
+ *         .below("system-properties", ConfigSource.secretDirectory(Path.of("/var/run/secrets/orders")));
+ * SimpleConfig.boot(AppConfig.class, BootOptions.defaults().sources(pipeline));
+ * }</pre>
+ */
+public final class ConfigPipeline {
+    private static final Logger log = LoggerFactory.getLogger(ConfigPipeline.class);
+
+    private static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final ConfigPipeline DEFAULTS = new ConfigPipeline(List.of(
+            ConfigSource.systemProperties(),
+            ConfigSource.secretFiles(),
+            ConfigSource.environment(),
+            ConfigSource.profile(),
+            ConfigSource.application(),
+            ConfigSource.reference()), DEFAULT_LOAD_TIMEOUT);
+
+    /**
+     * The last parse of a source, with what it was parsed from.
+     */
+    private record Cached(Object version, List<Path> files, List<Object> stamps, Config config) {}
+
+    private final List<ConfigSource> sources;
+    private final Duration loadTimeout;
+    private final Map<ConfigSource, Cached> cache = new ConcurrentHashMap<>();
+
+    private ConfigPipeline(List<ConfigSource> sources, Duration loadTimeout) {
+        this.sources = List.copyOf(sources);
+        this.loadTimeout = loadTimeout;
+    }
+
+    /**
+     * @return The shared default pipeline (see the class comment for its layers).
+     */
+    public static ConfigPipeline defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param sources From highest to lowest priority.
+     */
+    public static ConfigPipeline of(ConfigSource... sources) {
+        return new ConfigPipeline(List.of(sources), DEFAULT_LOAD_TIMEOUT);
+    }
+
+    /**
+     * @return A copy with {@code source} just above (overriding) the source named {@code name}.
+     * @throws IllegalArgumentException if there is no source with that name.
+     */
+    public ConfigPipeline above(String name, ConfigSource source) {
+        return insert(indexOf(name), source);
+    }
+
+    /**
+     * @return A copy with {@code source} just below (falling back from) the source named {@code name}.
+     * @throws IllegalArgumentException if there is no source with that name.
+     */
+    public ConfigPipeline below(String name, ConfigSource source) {
+        return insert(indexOf(name) + 1, source);
+    }
+
+    /**
+     * @return A copy that gives up on loading after {@code timeout} (30 seconds by default), reporting every
+     *         source that has not finished as failed.
+     */
+    public ConfigPipeline loadTimeout(Duration timeout) {
+        return new ConfigPipeline(sources, timeout);
+    }
+
+    /**
+     * @return The sources, from highest to lowest priority.
+     */
+    public List<ConfigSource> sources() {
+        return sources;
+    }
+
+    /**
+     * @return The extra files every source asks to be watched, see {@link ConfigSource#watchedFiles()}.
+     */
+    Set<Path> watchedFiles() {
+        Set<Path> files = new LinkedHashSet<>();
+        sources.forEach(source -> files.addAll(source.watchedFiles()));
+        return files;
+    }
+
+    /**
+     * Loads, layers and resolves every source.
+     *
+     * @throws IllegalStateException naming every source that failed to load.
+     */
+    public Config load() {
+        return load(new BootRecorder());
+    }
+
+    /**
+     * As {@link #load()}, timing each source (as a phase named after it), the resolution and the index build
+     * into the recorder. Source phases overlap, since sources load concurrently.
+     */
+    Config load(BootRecorder recorder) {
+        return resolve(layers(recorder), recorder);
+    }
+
+    /**
+     * Loads every source (the "load" phase), without layering or resolving them.
+     *
+     * @return One unresolved layer per source, in priority order.
+     */
+    Config[] layers(BootRecorder recorder) {
+        try (BootRecorder.Phase phase = recorder.phase("load")) {
+            long[] bytes = new long[sources.size()];
+            Config[] layers = loadLayers(recorder, bytes);
+            long keys = 0;
+            for (Config layer : layers) {
+                keys += layer.root().size();
+            }
+            phase.keys(keys).bytes(Arrays.stream(bytes).sum());
+            return layers;
+        }
+    }
+
+    /**
+     * Layers the result of {@link #layers(BootRecorder)} in priority order and resolves it (the "resolve" phase).
+     */
+    Config resolve(Config[] layers, BootRecorder recorder) {
+        Config merged = ConfigFactory.empty();
+        for (Config layer : layers) {
+            merged = merged.withFallback(layer);
+        }
+        Config resolved;
+        try (BootRecorder.Phase phase = recorder.phase("resolve")) {
+            resolved = merged.resolve();
+            if (phase.measured()) {
+                long keys = BootRecorder.countLeaves(resolved.root());
+                phase.keys(keys);
+                recorder.keys(keys);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * @return A copy in which every source with a non-null entry in {@code parsed} is replaced by that
+     *         already parsed layer (e.g. restored from a snapshot); the other sources load as usual.
+     */
+    ConfigPipeline restored(Config[] parsed) {
+        List<ConfigSource> copy = new ArrayList<>(sources);
+        for (int i = 0; i < parsed.length; i++) {
+            Config layer = parsed[i];
+            if (layer != null) {
+                copy.set(i, ConfigSource.of(sources.get(i).name(), () -> layer));
+            }
+        }
+        return new ConfigPipeline(copy, loadTimeout);
+    }
+
+    /**
+     * @param bytes Filled with the size of the files each source parsed; 0 for a reused parse, or when nobody
+     *              reads the figures.
+     */
+    private Config[] loadLayers(BootRecorder recorder, long[] bytes) {
+        int count = sources.size();
+        Config[] layers = new Config[count];
+        boolean[] reused = new boolean[count];
+        long[] nanos = new long[count];
+        long start = System.nanoTime();
+
+        List<String> failures = new ArrayList<>();
+        List<Throwable> causes = new ArrayList<>();
+        // Not closed with try-with-resources: close() would wait for a timed-out source that ignores interrupts.
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> loads = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                loads.add(executor.submit(() -> {
+                    long sourceStart = System.nanoTime();
+                    try (BootRecorder.Phase phase = recorder.phase(sources.get(index).name())) {
+                        layers[index] = loadCached(sources.get(index), reused, index);
+                        phase.keys(layers[index].root().size());
+                        if (phase.measured() && !reused[index]) {
+                            bytes[index] = ConfigSources.size(layers[index]);
+                            phase.bytes(bytes[index]);
+                        }
+                    } finally {
+                        nanos[index] = System.nanoTime() - sourceStart;
+                    }
+                }));
+            }
+            long deadline = start + loadTimeout.toNanos();
+            for (int i = 0; i < count; i++) {
+                try {
+                    loads.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(sources.get(i).name() + ": " + e.getCause());
+                    causes.add(e.getCause());
+                } catch (TimeoutException e) {
+                    failures.add(sources.get(i).name() + ": timed out after " + loadTimeout.toMillis() + " ms");
+                    causes.add(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading config sources", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (!failures.isEmpty()) {
+            IllegalStateException failure = new IllegalStateException("Failed to load config sources: " + String.join("; ", failures));
+            causes.forEach(failure::addSuppressed);
+            throw failure;
+        }
+        logTimings(reused, nanos, System.nanoTime() - start);
+        return layers;
+    }
+
+    /**
+     * Returns the cached parse of a source if its version and files are unchanged, otherwise loads it.
+     */
+    private Config loadCached(ConfigSource source, boolean[] reused, int index) {
+        Object version = source.version();
+        Cached cached = cache.get(source);
+        if (version != null && cached != null && version.equals(cached.version())
+                && ConfigSources.stamps(cached.files()).equals(cached.stamps())) {
+            reused[index] = true;
+            return cached.config();
+        }
+        Config config = source.load();
+        if (version != null) {
+            List<Path> files = List.copyOf(ConfigSources.originFiles(config));
+            List<Object> stamps = ConfigSources.stamps(files);
+            if (ConfigSources.settled(stamps)) {
+                cache.put(source, new Cached(version, files, stamps, config));
+            } else {
+                cache.remove(source);
+            }
+        }
+        return config;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i).name().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No config source named '" + name + "' in " + sources);
+    }
+
+    private ConfigPipeline insert(int index, ConfigSource source) {
+        List<ConfigSource> copy = new ArrayList<>(sources);
+        copy.add(index, source);
+        return new ConfigPipeline(copy, loadTimeout);
+    }
+
+    private void logTimings(boolean[] reused, long[] nanos, long totalNanos) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String perSource = IntStream.range(0, sources.size())
+                .mapToObj(i -> sources.get(i).name() + "=" + (reused[i] ? "cached" : millis(nanos[i])))
+                .collect(Collectors.joining(", "));
+        log.info("Loaded {} config source(s) in {}: {}", sources.size(), millis(totalNanos), perSource);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+}
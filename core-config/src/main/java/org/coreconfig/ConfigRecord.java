@@ -0,0 +1,19 @@
+package org.coreconfig;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record as a configuration schema.
+ *
+ * The core-config-processor annotation processor generates a reflection-free {@link ConfigBinder}
+ * named {@code <RecordName>_ConfigBinder} next to every annotated record. At runtime the binder is
+ * picked up automatically; records without one are bound reflectively instead.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface ConfigRecord {}
@@ -0,0 +1,280 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Many configurations of one aggregate type in a single JVM, e.g. one per tenant or strategy, each a small
+ * override on top of a shared base:
+ * <pre>{@code
+ * ConfigRegistry<AppConfig> registry = ConfigRegistry.create(AppConfig.class);
+ * registry.tenants(Map.of("acme", ConfigFactory.parseString("db.pool-size = 32"), "globex", ConfigFactory.empty()));
+ * AppConfig acme = registry.get("acme");
+ * }</pre>
+ *
+ * The base is loaded from the pipeline and resolved once. A tenant's tree is its override layered on the base,
+ * which shares every subtree the override does not touch, so only the overridden paths are resolved, diffed
+ * and stored again. Sections the override does not change are the base's own record instances; sections it
+ * does change are bound and validated, then interned, so tenants with equal sections (e.g. the same
+ * {@code DbConfig}, or equal arrays of reference data, see {@link SectionContent}) share one instance. Interned sections are counted per registered tenant and dropped when
+ * no tenant uses them any more. Memory and binding time therefore grow with the live overrides rather than
+ * with the number of tenants or with the history of replaced ones.
+ *
+ * Overrides may refer to base values ({@code pool-size = ${db.pool-size}0}), but base substitutions were
+ * resolved with the base alone and do not see tenant values.
+ *
+ * Thread-safe: tenants may be added, replaced and read concurrently.
+ */
+public final class ConfigRegistry<T> {
+    private static final Logger log = LoggerFactory.getLogger(ConfigRegistry.class);
+
+    private final ConfigMapper mapper = new ConfigMapper();
+    private final ConfigBinder<T> binder;
+    private final List<String> names;
+    private final List<Class<?>> types;
+    private final List<Class<?>> elementTypes;
+    private final BootOptions options;
+
+    private final Config base;
+    private final Object[] baseSections;
+    private final T baseValue;
+
+    private final Map<String, Tenant<T>> tenants = new ConcurrentHashMap<>();
+    private final Map<SectionContent.Key, Interned> interned = new ConcurrentHashMap<>();
+
+    /**
+     * A registered tenant's aggregate with the sections it holds a reference to.
+     */
+    private record Tenant<T>(T value, Object[] sections) {}
+
+    /**
+     * The shared instance of a section and how many holders (the base and each tenant) reference it;
+     * only changed while the map holds the entry's lock.
+     */
+    private static final class Interned {
+        private final Object instance;
+        private int references;
+
+        private Interned(Object instance) {
+            this.instance = instance;
+        }
+    }
+
+    private ConfigRegistry(Class<T> aggregateConfigType, Config base, BootOptions options, BootRecorder recorder) {
+        this.binder = ConfigMapper.binder(aggregateConfigType);
+        this.names = binder.componentNames();
+        this.types = binder.componentTypes();
+        this.elementTypes = binder.componentElementTypes();
+        this.options = options;
+        this.base = base;
+        this.baseSections = SectionBinder.bindAll(mapper, base, binder, options, recorder);
+        for (int i = 0; i < baseSections.length; i++) {
+            baseSections[i] = acquire(baseSections[i]);
+        }
+        this.baseValue = binder.construct(baseSections.clone());
+    }
+
+    /**
+     * Loads and binds the base from {@link ConfigPipeline#defaults()}.
+     *
+     * @param aggregateConfigType The main record class that defines the config structure (e.g., AppConfig.class).
+     * @throws RuntimeException if loading, mapping, or validation of the base fails.
+     */
+    public static <T> ConfigRegistry<T> create(Class<T> aggregateConfigType) {
+        return create(aggregateConfigType, BootOptions.defaults());
+    }
+
+    /**
+     * Loads the base from the options' sources and binds it with their settings. With
+     * {@link BootOptions#parallel()}, {@link #tenants(Map)} also binds tenants concurrently, on the
+     * options' executor if one was given.
+     *
+     * @throws RuntimeException if loading, mapping, or validation of the base fails.
+     */
+    public static <T> ConfigRegistry<T> create(Class<T> aggregateConfigType, BootOptions options) {
+        try {
+            BootRecorder recorder = new BootRecorder();
+            Config base = options.sources().load(recorder);
+            ConfigRegistry<T> registry = new ConfigRegistry<>(aggregateConfigType, base, options, recorder);
+            log.info("Created config registry for {} from a base of {} key(s).", aggregateConfigType.getSimpleName(),
+                    BootRecorder.countLeaves(base.root()));
+            return registry;
+        } catch (Exception e) {
+            throw new RuntimeException("Could not initialize configuration registry for " + aggregateConfigType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @return The aggregate bound from the base alone.
+     */
+    public T base() {
+        return baseValue;
+    }
+
+    /**
+     * Binds a tenant from its override and registers it, replacing any previous configuration of that tenant.
+     *
+     * @param override Unresolved; may be empty.
+     * @return The tenant's validated aggregate.
+     * @throws ConfigValidationException listing the problems of every section that failed; the tenant's previous
+     *         configuration, if any, is kept.
+     */
+    public T tenant(String id, Config override) {
+        Tenant<T> tenant = bind(override);
+        release(tenants.put(id, tenant));
+        return tenant.value();
+    }
+
+    /**
+     * Binds and registers many tenants, concurrently if the registry was created with parallel options.
+     * Every tenant is attempted; those that bind are registered even if others fail.
+     *
+     * @return The validated aggregates by tenant id, in the iteration order of {@code overrides}.
+     * @throws ConfigValidationException listing the problems of every tenant that failed, prefixed with its id.
+     */
+    public Map<String, T> tenants(Map<String, Config> overrides) {
+        List<String> ids = new ArrayList<>(overrides.keySet());
+        Object[] values = new Object[ids.size()];
+        RuntimeException[] failures = new RuntimeException[ids.size()];
+        Runnable[] tasks = new Runnable[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            int index = i;
+            tasks[i] = () -> {
+                try {
+                    values[index] = tenant(ids.get(index), overrides.get(ids.get(index)));
+                } catch (RuntimeException e) {
+                    failures[index] = e;
+                }
+            };
+        }
+        if (options.isParallel() && tasks.length > 1) {
+            SectionBinder.runConcurrently(tasks, options.executor());
+        } else {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        }
+
+        ConfigValidationException failure = SectionBinder.aggregate(ids, failures);
+        if (failure != null) {
+            throw failure;
+        }
+        Map<String, T> bound = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            T value = (T) values[i];
+            bound.put(ids.get(i), value);
+        }
+        return bound;
+    }
+
+    /**
+     * @return The tenant's aggregate, or null if it is not registered.
+     */
+    public T get(String id) {
+        Tenant<T> tenant = tenants.get(id);
+        return tenant == null ? null : tenant.value();
+    }
+
+    /**
+     * @return The aggregate of the tenant if registered, otherwise of the base.
+     */
+    public T getOrBase(String id) {
+        Tenant<T> tenant = tenants.get(id);
+        return tenant == null ? baseValue : tenant.value();
+    }
+
+    /**
+     * @return The registered tenant ids.
+     */
+    public Set<String> tenantIds() {
+        return Set.copyOf(tenants.keySet());
+    }
+
+    /**
+     * Unregisters a tenant and releases its sections; those no other tenant uses are dropped.
+     *
+     * @return true if the tenant was registered.
+     */
+    public boolean remove(String id) {
+        Tenant<T> removed = tenants.remove(id);
+        release(removed);
+        return removed != null;
+    }
+
+    /**
+     * @return The number of distinct section instances held for the base and the registered tenants.
+     */
+    public int distinctSections() {
+        return interned.size();
+    }
+
+    /**
+     * Binds the sections the override changes and reuses the base's instances for the others. The returned
+     * tenant holds a reference to each of its sections; {@link #release} them when it is replaced or removed.
+     */
+    private Tenant<T> bind(Config override) {
+        Config root = override.withFallback(base).resolve();
+        Set<String> changedPaths = ConfigDiff.changedPaths(base.root(), root.root());
+        Object[] sections = baseSections.clone();
+        if (!changedPaths.isEmpty()) {
+            RuntimeException[] failures = new RuntimeException[sections.length];
+            for (int i = 0; i < sections.length; i++) {
+                String path = names.get(i);
+                if (!ConfigDiff.affects(changedPaths, path)) {
+                    continue;
+                }
+                try {
+                    sections[i] = SectionBinder.bindSection(mapper, root, path, types.get(i), elementTypes.get(i), options.isStrict());
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                }
+            }
+            ConfigValidationException failure = SectionBinder.aggregate(names, failures);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        boolean changed = false;
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = acquire(sections[i]);
+            changed |= sections[i] != baseSections[i];
+        }
+        return new Tenant<>(changed ? binder.construct(sections.clone()) : baseValue, sections);
+    }
+
+    /**
+     * @return The shared instance equal to {@code section}, now referenced once more.
+     */
+    private Object acquire(Object section) {
+        if (section == null) {
+            return null;
+        }
+        Interned entry = interned.compute(new SectionContent.Key(section), (key, existing) -> {
+            Interned held = existing != null ? existing : new Interned(key.section());
+            held.references++;
+            return held;
+        });
+        return entry.instance;
+    }
+
+    private void release(Tenant<T> tenant) {
+        if (tenant == null) {
+            return;
+        }
+        for (Object section : tenant.sections()) {
+            if (section != null) {
+                interned.computeIfPresent(new SectionContent.Key(section), (key, held) -> --held.references == 0 ? null : held);
+            }
+        }
+    }
+}
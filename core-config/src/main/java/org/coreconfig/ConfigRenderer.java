@@ -0,0 +1,206 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Renders a config tree as HOCON for humans, redacting secrets at any depth.
+ *
+ * The tree is walked in place and written straight to a {@link Writer}; unlike
+ * {@code config.root().unwrapped()} followed by {@code render()}, no copy of the tree is built.
+ * Output stops at a character limit, and can be restricted to chosen subtrees:
+ *
+ * <pre>{@code
+ * ConfigRenderer.defaults().only("http", "db").maxChars(8192).render(config, writer);
+ * }</pre>
+ *
+ * Instances are immutable; each {@code with}-style method returns a modified copy.
+ */
+public final class ConfigRenderer {
+
+    static final String REDACTED = "\"[REDACTED]\"";
+
+    private static final int DEFAULT_MAX_CHARS = 1 << 20;
+    private static final String INDENT = "    ";
+    private static final ConfigRenderer DEFAULTS = new ConfigRenderer();
+
+    private Predicate<String> redact = ConfigLoader::isSecretKey;
+    private int maxChars = DEFAULT_MAX_CHARS;
+    private List<String> only = List.of();
+
+    private ConfigRenderer() {}
+
+    private ConfigRenderer(ConfigRenderer other) {
+        this.redact = other.redact;
+        this.maxChars = other.maxChars;
+        this.only = other.only;
+    }
+
+    /**
+     * @return Renders everything, up to 1 MiB of text, redacting every path that contains
+     *         "password", "secret" or "token" (e.g. {@code db.password}, or all of {@code secrets { ... }}).
+     */
+    public static ConfigRenderer defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Replaces the redaction rule. The matcher receives each full path (e.g. {@code "db.password"}); when it
+     * matches, the value, including a whole object or list, is written as {@code "[REDACTED]"}.
+     */
+    public ConfigRenderer redacting(Predicate<String> pathMatcher) {
+        ConfigRenderer copy = new ConfigRenderer(this);
+        copy.redact = pathMatcher;
+        return copy;
+    }
+
+    /**
+     * Stops writing after this many characters and appends a truncation marker.
+     */
+    public ConfigRenderer maxChars(int maxChars) {
+        if (maxChars <= 0) {
+            throw new IllegalArgumentException("maxChars must be positive: " + maxChars);
+        }
+        ConfigRenderer copy = new ConfigRenderer(this);
+        copy.maxChars = maxChars;
+        return copy;
+    }
+
+    /**
+     * Renders only the given paths (e.g. {@code "http"}, {@code "db.pool-size"}); missing paths are skipped.
+     */
+    public ConfigRenderer only(String... paths) {
+        ConfigRenderer copy = new ConfigRenderer(this);
+        copy.only = List.of(paths);
+        return copy;
+    }
+
+    /**
+     * Writes the rendered config to the writer. The writer is neither flushed nor closed.
+     */
+    public void render(Config config, Writer writer) throws IOException {
+        Output out = new Output(writer, maxChars);
+        try {
+            if (only.isEmpty()) {
+                writeFields(out, config.root(), null, 0);
+            } else {
+                for (String path : only) {
+                    ConfigValue value = valueAt(config, path);
+                    if (value != null) {
+                        writeField(out, path, value, path, 0);
+                    }
+                }
+            }
+        } catch (Output.LimitReached e) {
+            writer.write("\n... (truncated after " + maxChars + " characters)\n");
+        }
+    }
+
+    /**
+     * @return The rendered config as a string, bounded by {@link #maxChars(int)}.
+     */
+    public String render(Config config) {
+        StringWriter writer = new StringWriter();
+        try {
+            render(config, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
+        }
+        return writer.toString();
+    }
+
+    private static ConfigValue valueAt(Config config, String path) {
+        try {
+            return config.hasPathOrNull(path) ? config.getValue(path) : null;
+        } catch (ConfigException.BadPath | ConfigException.WrongType e) {
+            return null;
+        }
+    }
+
+    private void writeFields(Output out, ConfigObject object, String prefix, int depth) throws IOException {
+        List<String> keys = new ArrayList<>(object.keySet());
+        Collections.sort(keys);
+        for (String key : keys) {
+            String quoted = ConfigUtil.joinPath(key);
+            writeField(out, quoted, object.get(key), prefix == null ? quoted : prefix + "." + quoted, depth);
+        }
+    }
+
+    private void writeField(Output out, String name, ConfigValue value, String path, int depth) throws IOException {
+        indent(out, depth);
+        out.write(name);
+        out.write(value instanceof ConfigObject && !redact.test(path) ? " " : " = ");
+        writeValue(out, value, path, depth);
+        out.write("\n");
+    }
+
+    private void writeValue(Output out, ConfigValue value, String path, int depth) throws IOException {
+        if (redact.test(path)) {
+            out.write(REDACTED);
+        } else if (value instanceof ConfigObject object) {
+            out.write("{\n");
+            writeFields(out, object, path, depth + 1);
+            indent(out, depth);
+            out.write("}");
+        } else if (value instanceof ConfigList list) {
+            out.write("[");
+            for (int i = 0; i < list.size(); i++) {
+                out.write(i == 0 ? "" : ", ");
+                writeValue(out, list.get(i), path, depth);
+            }
+            out.write("]");
+        } else if (value.unwrapped() instanceof String string) {
+            out.write(ConfigUtil.quoteString(string));
+        } else {
+            out.write(String.valueOf(value.unwrapped()));
+        }
+    }
+
+    private static void indent(Output out, int depth) throws IOException {
+        for (int i = 0; i < depth; i++) {
+            out.write(INDENT);
+        }
+    }
+
+    /**
+     * Counts what is written and unwinds the walk once the limit is hit.
+     */
+    private static final class Output {
+        static final class LimitReached extends RuntimeException {
+            LimitReached() {
+                super(null, null, false, false);
+            }
+        }
+
+        private final Writer writer;
+        private int remaining;
+
+        Output(Writer writer, int maxChars) {
+            this.writer = writer;
+            this.remaining = maxChars;
+        }
+
+        void write(String text) throws IOException {
+            if (text.length() > remaining) {
+                writer.write(text, 0, remaining);
+                remaining = 0;
+                throw new LimitReached();
+            }
+            writer.write(text);
+            remaining -= text.length();
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigOrigin;
+import com.typesafe.config.ConfigOriginFactory;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An opt-in, on-disk snapshot of the parsed configuration files, so a restart with unchanged inputs
+ * skips parsing the application, profile and included files.
+ *
+ * Only the layers of a {@link ConfigPipeline} that parse local files (see {@link ConfigSources#parsesFiles})
+ * are stored, each as it was parsed, i.e. before resolution. Every other layer (system properties, secret
+ * files and directories, {@code CONFIG_FORCE_*} environment variables, remote and custom sources) is loaded
+ * again on every boot, and the pipeline then layers and resolves as usual. So secrets are never stored:
+ * <ul>
+ *   <li>values from non-file layers are never written, whatever their keys;</li>
+ *   <li>substitutions in the files (e.g. {@code password = ${?DB_PASSWORD}}) are stored as the
+ *       substitution expression and resolved again on load;</li>
+ *   <li>if a secret-looking key holds a literal value in a file, no snapshot is written at all.</li>
+ * </ul>
+ *
+ * The snapshot is keyed by all environment variables, all system properties, the active profile, the
+ * pipeline's sources, and per file layer its {@link ConfigSource#version()} and the content of every file it
+ * came from (including {@code include}d files). A file layer without a version, or one that came from
+ * anything but a local file, is not snapshotted. The snapshot is read through a memory-mapped file; on any
+ * mismatch or corruption the full load runs instead and a fresh snapshot is written.
+ *
+ * File layout (big-endian): magic, format version, 32-byte environment hash, source count, then per source
+ * its name and a file-layer flag; for a file layer also its 32-byte version hash, its origin count and per
+ * origin the URL and a 32-byte content hash, then its value tree, then the count of expressions and per
+ * expression its path and HOCON text. String values also carry the index of the origin file they were
+ * declared in and their line, so that paths relative to that file (see {@link ExternalSection}) resolve
+ * the same when restored.
+ */
+final class ConfigSnapshotCache {
+    private static final Logger log = LoggerFactory.getLogger(ConfigSnapshotCache.class);
+
+    private static final int MAGIC = 0x43435331; // "CCS1"
+    private static final int FORMAT_VERSION = 3;
+
+    private static final byte OBJECT = 1;
+    private static final byte LIST = 2;
+    private static final byte STRING = 3;
+    private static final byte INT = 4;
+    private static final byte LONG = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte NULL = 8;
+
+    private ConfigSnapshotCache() {}
+
+    /**
+     * Thrown while encoding when a layer contains something that must not be written to disk.
+     */
+    private static final class UncacheableException extends Exception {
+        UncacheableException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Returns the configuration with the file layers restored from the snapshot if it is still valid,
+     * otherwise loads the whole pipeline and writes a new snapshot for next time. Either way the other
+     * layers are loaded, and the result is resolved and indexed, by the pipeline.
+     */
+    static Config load(Path file, String profile, ConfigPipeline pipeline, BootRecorder recorder) {
+        Config[] restored = read(file, profile, pipeline.sources());
+        if (restored != null) {
+            log.info("Loaded configuration files from snapshot {}.", file);
+            return pipeline.restored(restored).load(recorder);
+        }
+        Config[] layers = pipeline.layers(recorder);
+        Config resolved = pipeline.resolve(layers, recorder);
+        try {
+            write(file, profile, pipeline.sources(), layers);
+            log.info("Wrote configuration snapshot {}.", file);
+        } catch (UncacheableException e) {
+            log.warn("Not writing configuration snapshot: {}", e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write configuration snapshot {}; continuing without it.", file, e);
+        }
+        return resolved;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Reading
+
+    /**
+     * @return Per source, the restored layer for file layers and null for the others; or null if the
+     *         snapshot is missing, stale or unreadable.
+     */
+    private static Config[] read(Path file, String profile, List<ConfigSource> sources) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.info("Ignoring configuration snapshot {}: unknown format.", file);
+                return null;
+            }
+            byte[] environmentHash = new byte[32];
+            buffer.get(environmentHash);
+            if (!Arrays.equals(environmentHash, environmentHash(profile))) {
+                log.info("Configuration snapshot {} is stale: environment or system properties changed.", file);
+                return null;
+            }
+            if (buffer.getInt() != sources.size()) {
+                log.info("Configuration snapshot {} is stale: the config sources changed.", file);
+                return null;
+            }
+            Config[] layers = new Config[sources.size()];
+            for (int i = 0; i < layers.length; i++) {
+                ConfigSource source = sources.get(i);
+                boolean fileLayer = buffer.get() != 0;
+                if (!readString(buffer).equals(source.name()) || fileLayer != ConfigSources.parsesFiles(source)) {
+                    log.info("Configuration snapshot {} is stale: the config sources changed.", file);
+                    return null;
+                }
+                if (fileLayer) {
+                    layers[i] = readLayer(buffer, file, source);
+                    if (layers[i] == null) {
+                        return null;
+                    }
+                }
+            }
+            return layers;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable configuration snapshot {}.", file, e);
+            return null;
+        }
+    }
+
+    private static Config readLayer(ByteBuffer buffer, Path file, ConfigSource source) {
+        byte[] versionHash = new byte[32];
+        buffer.get(versionHash);
+        Object version = source.version();
+        if (version == null || !Arrays.equals(versionHash, versionHash(version))) {
+            log.info("Configuration snapshot {} is stale: {} changed.", file, source.name());
+            return null;
+        }
+        String[] originFiles = new String[buffer.getInt()];
+        for (int i = 0; i < originFiles.length; i++) {
+            String url = readString(buffer);
+            byte[] storedHash = new byte[32];
+            buffer.get(storedHash);
+            if (!Arrays.equals(storedHash, contentHash(url))) {
+                log.info("Configuration snapshot {} is stale: {} changed.", file, url);
+                return null;
+            }
+            originFiles[i] = url.startsWith("file:") ? Path.of(URI.create(url)).toString() : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> tree = (Map<String, Object>) readValue(buffer, originFiles);
+        StringBuilder expressions = new StringBuilder();
+        int expressionCount = buffer.getInt();
+        for (int i = 0; i < expressionCount; i++) {
+            expressions.append(readString(buffer)).append(" = ").append(readString(buffer)).append('\n');
+        }
+        String origin = "snapshot " + file + ": " + source.name();
+        Config values = ConfigValueFactory.fromMap(tree, origin).toConfig();
+        return ConfigFactory.parseString(expressions.toString(), ConfigParseOptions.defaults().setOriginDescription(origin))
+                .withFallback(values);
+    }
+
+    /**
+     * @param originFiles The layer's origins by index, as file names; null for origins that are not files.
+     */
+    private static Object readValue(ByteBuffer buffer, String[] originFiles) {
+        byte tag = buffer.get();
+        return switch (tag) {
+            case OBJECT -> {
+                int count = buffer.getInt();
+                Map<String, Object> object = new LinkedHashMap<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    String key = readString(buffer);
+                    object.put(key, readValue(buffer, originFiles));
+                }
+                yield object;
+            }
+            case LIST -> {
+                int count = buffer.getInt();
+                List<Object> list = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(readValue(buffer, originFiles));
+                }
+                yield list;
+            }
+            case STRING -> {
+                String value = readString(buffer);
+                int origin = buffer.getInt();
+                int line = buffer.getInt();
+                if (origin < 0 || originFiles[origin] == null) {
+                    yield value;
+                }
+                ConfigOrigin declaredIn = ConfigOriginFactory.newFile(originFiles[origin]);
+                yield ConfigValueFactory.fromAnyRef(value).withOrigin(line > 0 ? declaredIn.withLineNumber(line) : declaredIn);
+            }
+            case INT -> buffer.getInt();
+            case LONG -> buffer.getLong();
+            case DOUBLE -> buffer.getDouble();
+            case BOOLEAN -> buffer.get() != 0;
+            case NULL -> null;
+            default -> throw new IllegalStateException("Corrupt snapshot: unknown tag " + tag);
+        };
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Writing
+
+    private static void write(Path file, String profile, List<ConfigSource> sources, Config[] layers)
+            throws IOException, UncacheableException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.write(environmentHash(profile));
+                out.writeInt(sources.size());
+                for (int i = 0; i < layers.length; i++) {
+                    ConfigSource source = sources.get(i);
+                    boolean fileLayer = ConfigSources.parsesFiles(source);
+                    out.writeBoolean(fileLayer);
+                    writeString(out, source.name());
+                    if (fileLayer) {
+                        writeLayer(out, source, layers[i]);
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void writeLayer(DataOutputStream out, ConfigSource source, Config layer)
+            throws IOException, UncacheableException {
+        Object version = source.version();
+        if (version == null) {
+            throw new UncacheableException("config source '" + source.name() + "' cannot tell whether it changed.");
+        }
+        out.write(versionHash(version));
+
+        Set<String> origins = new TreeSet<>(ConfigSources.originUrls(layer).keySet());
+        out.writeInt(origins.size());
+        for (String url : origins) {
+            byte[] hash = isLocal(url) ? contentHash(url) : null;
+            if (hash == null) {
+                throw new UncacheableException("'" + url + "' in config source '" + source.name() + "' is not a readable local file.");
+            }
+            writeString(out, url);
+            out.write(hash);
+        }
+
+        Map<String, Integer> originIndex = new HashMap<>();
+        for (String url : origins) {
+            originIndex.put(url, originIndex.size());
+        }
+        TreeEncoder encoder = new TreeEncoder(out, originIndex);
+        encoder.writeObject(new ArrayList<>(), layer.root());
+        out.writeInt(encoder.expressions.size());
+        for (Map.Entry<String, String> expression : encoder.expressions.entrySet()) {
+            writeString(out, expression.getKey());
+            writeString(out, expression.getValue());
+        }
+    }
+
+    /**
+     * Walks one unresolved layer, writing its literal values and collecting substitution expressions
+     * (and anything else that only resolves against the other layers) as HOCON text.
+     */
+    private static final class TreeEncoder {
+        private static final ConfigRenderOptions CONCISE = ConfigRenderOptions.concise();
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> originIndex;
+        private final Map<String, String> expressions = new TreeMap<>();
+
+        TreeEncoder(DataOutputStream out, Map<String, Integer> originIndex) {
+            this.out = out;
+            this.originIndex = originIndex;
+        }
+
+        void writeObject(List<String> prefix, ConfigObject object) throws IOException, UncacheableException {
+            Map<String, ConfigValue> kept = new LinkedHashMap<>();
+            for (Map.Entry<String, ConfigValue> entry : new TreeMap<>(object).entrySet()) {
+                String key = entry.getKey();
+                ConfigValue value = entry.getValue();
+                prefix.add(key);
+                String path = ConfigUtil.joinPath(prefix);
+                if (isExpression(value)) {
+                    expressions.put(path, value.render(CONCISE));
+                } else if (!(value instanceof ConfigObject) && ConfigLoader.isSecretKey(key)) {
+                    throw new UncacheableException("'" + path + "' holds a literal secret in a config file.");
+                } else {
+                    kept.put(key, value);
+                }
+                prefix.remove(prefix.size() - 1);
+            }
+
+            out.writeByte(OBJECT);
+            out.writeInt(kept.size());
+            for (Map.Entry<String, ConfigValue> entry : kept.entrySet()) {
+                writeString(out, entry.getKey());
+                prefix.add(entry.getKey());
+                if (entry.getValue() instanceof ConfigObject child) {
+                    writeObject(prefix, child);
+                } else {
+                    writeValue(ConfigUtil.joinPath(prefix), entry.getValue());
+                }
+                prefix.remove(prefix.size() - 1);
+            }
+        }
+
+        private void writeValue(String path, ConfigValue value) throws IOException, UncacheableException {
+            switch (value.valueType()) {
+                case OBJECT -> {
+                    // Objects inside lists: refuse anything secret-looking.
+                    ConfigObject object = (ConfigObject) value;
+                    out.writeByte(OBJECT);
+                    out.writeInt(object.size());
+                    for (Map.Entry<String, ConfigValue> entry : new TreeMap<>(object).entrySet()) {
+                        if (ConfigLoader.isSecretKey(entry.getKey())) {
+                            throw new UncacheableException("'" + path + "' contains a secret inside a list.");
+                        }
+                        writeString(out, entry.getKey());
+                        writeValue(path, entry.getValue());
+                    }
+                }
+                case LIST -> {
+                    ConfigList list = (ConfigList) value;
+                    out.writeByte(LIST);
+                    out.writeInt(list.size());
+                    for (ConfigValue element : list) {
+                        writeValue(path, element);
+                    }
+                }
+                case STRING -> {
+                    out.writeByte(STRING);
+                    writeString(out, (String) value.unwrapped());
+                    URL url = value.origin().url();
+                    out.writeInt(url == null ? -1 : originIndex.getOrDefault(url.toExternalForm(), -1));
+                    out.writeInt(value.origin().lineNumber());
+                }
+                case NUMBER -> {
+                    Object number = value.unwrapped();
+                    if (number instanceof Integer i) {
+                        out.writeByte(INT);
+                        out.writeInt(i);
+                    } else if (number instanceof Long l) {
+                        out.writeByte(LONG);
+                        out.writeLong(l);
+                    } else {
+                        out.writeByte(DOUBLE);
+                        out.writeDouble(((Number) number).doubleValue());
+                    }
+                }
+                case BOOLEAN -> {
+                    out.writeByte(BOOLEAN);
+                    out.writeBoolean((Boolean) value.unwrapped());
+                }
+                case NULL -> out.writeByte(NULL);
+            }
+        }
+
+        /**
+         * @return True for a value that only resolves against the whole configuration: a substitution, a
+         *         concatenation or list containing one, or an object merged with one.
+         */
+        private static boolean isExpression(ConfigValue value) {
+            if (value instanceof ConfigObject object) {
+                try {
+                    object.keySet();
+                    return false;
+                } catch (ConfigException.NotResolved e) {
+                    return true;
+                }
+            }
+            return value.render(CONCISE).contains("${");
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Fingerprinting
+
+    /**
+     * Hashes everything outside the config files that can change which files are loaded.
+     */
+    private static byte[] environmentHash(String profile) {
+        MessageDigest digest = sha256();
+        update(digest, "format=" + FORMAT_VERSION);
+        update(digest, "profile=" + profile);
+        new TreeMap<>(System.getenv()).forEach((name, value) -> update(digest, "env:" + name + "=" + value));
+        for (String name : new TreeSet<>(System.getProperties().stringPropertyNames())) {
+            update(digest, "prop:" + name + "=" + System.getProperty(name));
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Hashes a source's version; versions are built from file names, stamps and strings, whose text is stable.
+     */
+    private static byte[] versionHash(Object version) {
+        MessageDigest digest = sha256();
+        update(digest, String.valueOf(version));
+        return digest.digest();
+    }
+
+    /**
+     * @return True for a file, or a resource in a local jar; only those are hashed, never fetched over a network.
+     */
+    private static boolean isLocal(String url) {
+        return url.startsWith("file:") || url.startsWith("jar:file:");
+    }
+
+    /**
+     * @return The SHA-256 of the local resource's content, or null if it cannot be read (e.g. it was deleted).
+     */
+    private static byte[] contentHash(String url) {
+        if (!isLocal(url)) {
+            return null;
+        }
+        try (InputStream in = URI.create(url).toURL().openStream()) {
+            MessageDigest digest = sha256();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                digest.update(chunk, 0, read);
+            }
+            return digest.digest();
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest digest, String entry) {
+        digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One layer of configuration, such as a classpath resource, a directory of files or the system properties.
+ *
+ * A {@link ConfigPipeline} loads its sources concurrently, layers them in priority order and resolves the
+ * result once. Implementations must therefore be thread-safe, and {@link #load()} must return the source
+ * unresolved, so that substitutions can refer to values from other layers.
+ *
+ * A source that can cheaply tell whether it changed (e.g. from file modification times) returns a
+ * {@link #version()}; the pipeline then reuses its last parse while the version and every file the parse
+ * came from (including {@code include}d files) are unchanged.
+ */
+public interface ConfigSource {
+
+    /**
+     * @return A short name for logs, boot metrics and errors, e.g. "application".
+     */
+    String name();
+
+    /**
+     * Reads and parses the source, without resolving substitutions. Called on a pipeline worker thread.
+     *
+     * @return The parsed layer; empty if the source is absent.
+     */
+    Config load();
+
+    /**
+     * @return A value that is equal between two calls only if {@link #load()} would return the same layer,
+     *         or null if the source cannot tell (it is then loaded every time).
+     */
+    default Object version() {
+        return null;
+    }
+
+    /**
+     * @return Files a {@link ReloadableConfig} should watch besides those the loaded layer came from,
+     *         e.g. a file that does not exist yet but will hold the layer once written.
+     */
+    default List<Path> watchedFiles() {
+        return List.of();
+    }
+
+    /**
+     * The JVM system properties ({@code -Dkey=value}).
+     */
+    static ConfigSource systemProperties() {
+        return ConfigSources.SYSTEM_PROPERTIES;
+    }
+
+    /**
+     * Environment variables named {@code CONFIG_FORCE_<path>}, using Typesafe Config's mangling
+     * ({@code _} for {@code .}, {@code __} for {@code -}, {@code ___} for {@code _}). As with
+     * {@code ConfigFactory.load()}, they only apply with {@code -Dconfig.override_with_env_vars=true};
+     * otherwise this layer is empty, so the environment cannot override keys unless the process opts in.
+     */
+    static ConfigSource environment() {
+        return ConfigSources.ENVIRONMENT;
+    }
+
+    /**
+     * The secrets named by {@code *_FILE} environment variables, e.g. {@code DB_PASSWORD} from
+     * {@code DB_PASSWORD_FILE}; files are read concurrently and only when they changed.
+     */
+    static ConfigSource secretFiles() {
+        return ConfigSources.SECRET_FILES;
+    }
+
+    /**
+     * A mounted secret volume: one root key per regular file, named like the file and holding its trimmed
+     * UTF-8 content. Hidden files (such as Kubernetes' {@code ..data} links) are skipped.
+     */
+    static ConfigSource secretDirectory(Path directory) {
+        return new ConfigSources.SecretDirectory(directory);
+    }
+
+    /**
+     * The application config as Typesafe Config finds it: {@code application.conf/.json/.properties} on the
+     * classpath, or the file, resource or URL named by {@code -Dconfig.file}, {@code -Dconfig.resource} or
+     * {@code -Dconfig.url}.
+     */
+    static ConfigSource application() {
+        return ConfigSources.APPLICATION;
+    }
+
+    /**
+     * {@code application-<profile>.conf/.json/.properties} on the classpath for the profile active when loading
+     * ({@code -Dconfig.profile} or {@code CONFIG_PROFILE}); empty if no profile is active.
+     */
+    static ConfigSource profile() {
+        return ConfigSources.PROFILE;
+    }
+
+    /**
+     * Every {@code reference.conf} on the classpath.
+     */
+    static ConfigSource reference() {
+        return ConfigSources.REFERENCE;
+    }
+
+    /**
+     * {@code <basename>.conf/.json/.properties} on the classpath, e.g. {@code classpath("defaults")}.
+     */
+    static ConfigSource classpath(String basename) {
+        return new ConfigSources.Classpath(basename);
+    }
+
+    /**
+     * A single file; its syntax follows the extension. Empty if the file does not exist.
+     */
+    static ConfigSource file(Path file) {
+        return new ConfigSources.SingleFile(file);
+    }
+
+    /**
+     * Every {@code .conf}, {@code .json} and {@code .properties} file in a directory (not recursive), layered in
+     * file-name order so that later names win, e.g. {@code 10-base.conf} then {@code 20-site.conf}.
+     * Empty if the directory does not exist.
+     */
+    static ConfigSource directory(Path directory) {
+        return new ConfigSources.Directory(directory);
+    }
+
+    /**
+     * A custom source, loaded on every pipeline load.
+     */
+    static ConfigSource of(String name, Supplier<Config> loader) {
+        return new ConfigSources.Custom(name, loader);
+    }
+}
@@ -0,0 +1,442 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The built-in {@link ConfigSource} implementations, and the file stamps used to tell whether they changed.
+ */
+final class ConfigSources {
+
+    private static final List<String> EXTENSIONS = List.of(".conf", ".json", ".properties");
+
+    /**
+     * How long after its last modification a file's stamp is trusted. File systems keep modification times
+     * at a coarse granularity, so a file rewritten with the same size right after it was read can keep its stamp.
+     */
+    static final Duration SETTLE_TIME = Duration.ofSeconds(2);
+
+    static final ConfigSource SYSTEM_PROPERTIES = new Named("system-properties") {
+        @Override
+        public Config load() {
+            return ConfigFactory.systemProperties();
+        }
+    };
+
+    static final ConfigSource ENVIRONMENT = new Named("environment") {
+        @Override
+        public Config load() {
+            return overrideWithEnvVars() ? ConfigFactory.systemEnvironmentOverrides() : ConfigFactory.empty();
+        }
+
+        @Override
+        public Object version() {
+            // The environment of a running JVM does not change; the opt-in flag may.
+            return List.of(name(), overrideWithEnvVars());
+        }
+    };
+
+    /**
+     * Typesafe Config's own opt-in for {@code CONFIG_FORCE_*} overrides, as {@code ConfigFactory.load()} honours it.
+     */
+    private static boolean overrideWithEnvVars() {
+        return Boolean.getBoolean("config.override_with_env_vars");
+    }
+
+    static final ConfigSource SECRET_FILES = new Named("secrets") {
+        @Override
+        public Config load() {
+            // The resolver caches by file stamp itself, so it is asked every time.
+            return ConfigLoader.resolveSecretsFromFiles();
+        }
+    };
+
+    static final ConfigSource APPLICATION = new Named("application") {
+        @Override
+        public Config load() {
+            return ConfigFactory.defaultApplication();
+        }
+
+        @Override
+        public Object version() {
+            String file = System.getProperty("config.file");
+            String resource = System.getProperty("config.resource");
+            String url = System.getProperty("config.url");
+            if (file != null) {
+                return List.of("file", stamp(Path.of(file)));
+            }
+            if (resource != null) {
+                return List.of("resource", resource, resourceStamps(resource));
+            }
+            if (url != null) {
+                return null;
+            }
+            return resourceStamps(EXTENSIONS.stream().map(extension -> "application" + extension).toList());
+        }
+    };
+
+    static final ConfigSource PROFILE = new Named("profile") {
+        @Override
+        public Config load() {
+            String profile = SimpleConfig.activeProfile();
+            return profile == null ? ConfigFactory.empty() : ConfigFactory.parseResourcesAnySyntax("application-" + profile);
+        }
+
+        @Override
+        public Object version() {
+            String profile = SimpleConfig.activeProfile();
+            return profile == null ? List.of() : List.of(profile, classpathStamps("application-" + profile));
+        }
+    };
+
+    static final ConfigSource REFERENCE = new Named("reference") {
+        @Override
+        public Config load() {
+            return ConfigFactory.defaultReferenceUnresolved();
+        }
+
+        @Override
+        public Object version() {
+            return resourceStamps("reference.conf");
+        }
+    };
+
+    private ConfigSources() {}
+
+    /**
+     * @return True for the sources that only parse local config files (the application, profile and reference
+     *         files, classpath resources, files and directories); false for layers computed from the process or
+     *         from secrets, such as system properties, the environment, secret files and custom sources.
+     */
+    static boolean parsesFiles(ConfigSource source) {
+        return source == APPLICATION || source == PROFILE || source == REFERENCE
+                || source instanceof Classpath || source instanceof SingleFile || source instanceof Directory;
+    }
+
+    private abstract static class Named implements ConfigSource {
+        private final String name;
+
+        Named(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return "ConfigSource[" + name + "]";
+        }
+    }
+
+    static final class Classpath extends Named {
+        private final String basename;
+
+        Classpath(String basename) {
+            super("classpath:" + basename);
+            this.basename = basename;
+        }
+
+        @Override
+        public Config load() {
+            return ConfigFactory.parseResourcesAnySyntax(basename);
+        }
+
+        @Override
+        public Object version() {
+            return classpathStamps(basename);
+        }
+    }
+
+    static final class SingleFile extends Named {
+        private final Path file;
+
+        SingleFile(Path file) {
+            super("file:" + file);
+            this.file = file;
+        }
+
+        @Override
+        public Config load() {
+            return ConfigFactory.parseFile(file.toFile());
+        }
+
+        @Override
+        public Object version() {
+            return stamp(file);
+        }
+    }
+
+    static final class Directory extends Named {
+        private final Path directory;
+
+        Directory(Path directory) {
+            super("directory:" + directory);
+            this.directory = directory;
+        }
+
+        @Override
+        public Config load() {
+            Config merged = ConfigFactory.empty();
+            for (Path file : files()) {
+                merged = ConfigFactory.parseFile(file.toFile()).withFallback(merged);
+            }
+            return merged;
+        }
+
+        @Override
+        public Object version() {
+            return files().stream().map(ConfigSources::stamp).toList();
+        }
+
+        private List<Path> files() {
+            if (!Files.isDirectory(directory)) {
+                return List.of();
+            }
+            try (Stream<Path> entries = Files.list(directory)) {
+                return entries
+                        .filter(file -> EXTENSIONS.stream().anyMatch(file.getFileName().toString()::endsWith))
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot list config directory " + directory, e);
+            }
+        }
+    }
+
+    static final class SecretDirectory extends Named {
+        private final Path directory;
+        private final ReentrantLock lock = new ReentrantLock();
+        private SecretFileResolver resolver;
+
+        SecretDirectory(Path directory) {
+            super("secrets:" + directory);
+            this.directory = directory;
+        }
+
+        @Override
+        public Config load() {
+            Map<String, Path> references = references();
+            // Not synchronized, which would pin a virtual thread's carrier while the resolver waits for its reads.
+            lock.lock();
+            try {
+                if (resolver == null || !resolver.references().equals(references)) {
+                    // Keep the resolver (and its per-file cache) for as long as the set of files is the same.
+                    resolver = new SecretFileResolver(references, SecretFileResolver.DEFAULT_TIMEOUT);
+                }
+                return resolver.resolve().config();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Map<String, Path> references() {
+            if (!Files.isDirectory(directory)) {
+                return Map.of();
+            }
+            Map<String, Path> references = new TreeMap<>();
+            try (Stream<Path> entries = Files.list(directory)) {
+                entries.filter(file -> !file.getFileName().toString().startsWith("."))
+                        .filter(Files::isRegularFile)
+                        .forEach(file -> references.put(file.getFileName().toString(), file.toAbsolutePath()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot list secret directory " + directory, e);
+            }
+            return references;
+        }
+    }
+
+    static final class Custom extends Named {
+        private final Supplier<Config> loader;
+
+        Custom(String name, Supplier<Config> loader) {
+            super(name);
+            this.loader = loader;
+        }
+
+        @Override
+        public Config load() {
+            return loader.get();
+        }
+    }
+
+    // ---- Stamps ----
+
+    /**
+     * What is known about a file without reading it; equal stamps mean the content has not changed.
+     */
+    private record Stamp(Path file, Object fileKey, FileTime modified, long size) {}
+
+    /**
+     * @return The file's stamp, or a marker if it does not exist (so that its appearance is noticed).
+     */
+    static Object stamp(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new Stamp(file, attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+        } catch (NoSuchFileException e) {
+            return "missing:" + file;
+        } catch (IOException e) {
+            return "unreadable:" + file + ":" + e.getMessage();
+        }
+    }
+
+    /**
+     * @return The stamps of the given files, in the same order.
+     */
+    static List<Object> stamps(Collection<Path> files) {
+        List<Object> stamps = new ArrayList<>(files.size());
+        for (Path file : files) {
+            stamps.add(stamp(file));
+        }
+        return stamps;
+    }
+
+    /**
+     * @return True if none of the stamped files was modified so recently that a same-size rewrite within
+     *         the file system's time granularity could go unnoticed.
+     */
+    static boolean settled(List<Object> stamps) {
+        Instant threshold = Instant.now().minus(SETTLE_TIME);
+        for (Object stamp : stamps) {
+            if (stamp instanceof Stamp file && !file.modified().toInstant().isBefore(threshold)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the local files a parsed config came from, including {@code include}d files.
+     */
+    static Set<Path> originFiles(Config config) {
+        Set<Path> files = new LinkedHashSet<>();
+        for (URL url : originUrls(config).values()) {
+            Path file = fileOf(url);
+            if (file != null) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * @return The total size of the local files a parsed config came from; files that cannot be read count as 0.
+     */
+    static long size(Config config) {
+        long size = 0;
+        for (Path file : originFiles(config)) {
+            try {
+                size += Files.size(file);
+            } catch (IOException ignored) {
+                // Deleted or replaced since it was parsed.
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Collects the distinct URLs a parsed config came from, including {@code include}d files, keyed by their
+     * external form ({@code URL.equals} may resolve host names).
+     */
+    static Map<String, URL> originUrls(Config config) {
+        Map<String, URL> urls = new LinkedHashMap<>();
+        collectOriginUrls(config.root(), urls);
+        return urls;
+    }
+
+    private static void collectOriginUrls(ConfigValue value, Map<String, URL> urls) {
+        URL url = value.origin().url();
+        if (url != null) {
+            urls.putIfAbsent(url.toExternalForm(), url);
+        }
+        if (value instanceof ConfigObject object) {
+            object.forEach((key, child) -> collectOriginUrls(child, urls));
+        } else if (value instanceof ConfigList list) {
+            list.forEach(child -> collectOriginUrls(child, urls));
+        }
+    }
+
+    private static List<Object> classpathStamps(String basename) {
+        return resourceStamps(EXTENSIONS.stream().map(extension -> basename + extension).toList());
+    }
+
+    private static List<Object> resourceStamps(String resource) {
+        return resourceStamps(List.of(resource));
+    }
+
+    /**
+     * Stamps every copy of the resources on the classpath: the file for directories, the jar for jars.
+     */
+    private static List<Object> resourceStamps(List<String> resources) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = ConfigSources.class.getClassLoader();
+        }
+        List<Object> stamps = new ArrayList<>();
+        for (String resource : resources) {
+            try {
+                for (URL url : Collections.list(loader.getResources(resource))) {
+                    Path file = fileOf(url);
+                    stamps.add(file != null ? stamp(file) : url.toString());
+                }
+            } catch (IOException e) {
+                stamps.add("unreadable:" + resource + ":" + e.getMessage());
+            }
+        }
+        return stamps;
+    }
+
+    /**
+     * @return The local file behind a {@code file:} URL, or the jar behind a {@code jar:file:} URL; otherwise null.
+     */
+    private static Path fileOf(URL url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return Path.of(url.toURI());
+            }
+            if ("jar".equals(url.getProtocol())) {
+                String path = url.getPath();
+                int separator = path.indexOf("!/");
+                return separator < 0 ? null : fileOf(URI.create(path.substring(0, separator)).toURL());
+            }
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            // Not a usable local file.
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+package org.coreconfig;
+
+import jakarta.validation.ConstraintViolation;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ConfigValidationException extends RuntimeException {
+    private final List<String> problems;
+
+    public ConfigValidationException(Set<? extends ConstraintViolation<?>> violations) {
+        this(violations.stream()
+                .map(cv -> cv.getPropertyPath() + " " + cv.getMessage())
+                .toList());
+    }
+
+    /**
+     * @param problems One human-readable line per problem, e.g. "db.poolSize must be positive".
+     */
+    public ConfigValidationException(List<String> problems) {
+        super(formatMessage(problems));
+        this.problems = problems.stream().sorted().toList();
+    }
+
+    /**
+     * @return Every problem found, sorted.
+     */
+    public List<String> problems() {
+        return problems;
+    }
+
+    /**
+     * @return The same problems, reported under {@code path} (e.g. "limits.0" + "max must be positive").
+     */
+    ConfigValidationException prefixed(String path) {
+        ConfigValidationException prefixed = new ConfigValidationException(problems.stream()
+                .map(problem -> path + "." + problem)
+                .toList());
+        prefixed.addSuppressed(this);
+        return prefixed;
+    }
+
+    private static String formatMessage(List<String> problems) {
+        return "Config validation failed: " + problems.stream()
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+}
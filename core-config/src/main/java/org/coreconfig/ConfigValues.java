@@ -0,0 +1,185 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigList;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueType;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the non-scalar record components: primitive arrays, immutable collections and nested records.
+ * Generated and reflective binders both call into this class, so they accept the same shapes.
+ *
+ * Primitive arrays are filled element by element from the config list, without first collecting a
+ * {@code List<Integer>} the way {@code Config.getIntList} does. Each element is still read through
+ * {@code ConfigValue.unwrapped()}, which boxes it (small integers come from the JDK's cache): Typesafe
+ * keeps the primitive in a package-private class and has no unboxed accessor. Collections are the JDK's compact
+ * immutable implementations ({@code List.of}, {@code Set.copyOf}, {@code Map.copyOf}).
+ *
+ * Collection elements and map values may be {@code String}, {@code Integer}, {@code Long},
+ * {@code Double}, {@code Boolean}, {@code Duration} or a record; map keys are always strings.
+ * Nested records are bound with their own binder and validated on the spot, with problems reported
+ * under their path relative to the enclosing record (e.g. {@code limits.0.max-orders must be positive}).
+ *
+ * Arrays, collections and maps can also be read from a JSON or CSV file named in place of the value
+ * (e.g. {@code instruments = "reference/instruments.csv"}); see {@link ExternalSection}.
+ */
+public final class ConfigValues {
+
+    private ConfigValues() {}
+
+    public static int[] intArray(Config slice, String key) {
+        ConfigValue declared = slice.getValue(key);
+        if (ExternalSection.isReference(declared)) {
+            return ExternalSection.open(declared, key).intArray();
+        }
+        ConfigList list = slice.getList(key);
+        int[] values = new int[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            ConfigValue value = list.get(i);
+            values[i] = value.unwrapped() instanceof Integer number
+                    ? number
+                    : holder(value, key, i).getInt(elementPath(key, i));
+        }
+        return values;
+    }
+
+    public static long[] longArray(Config slice, String key) {
+        ConfigValue declared = slice.getValue(key);
+        if (ExternalSection.isReference(declared)) {
+            return ExternalSection.open(declared, key).longArray();
+        }
+        ConfigList list = slice.getList(key);
+        long[] values = new long[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            ConfigValue value = list.get(i);
+            Object unwrapped = value.unwrapped();
+            values[i] = unwrapped instanceof Integer || unwrapped instanceof Long
+                    ? ((Number) unwrapped).longValue()
+                    : holder(value, key, i).getLong(elementPath(key, i));
+        }
+        return values;
+    }
+
+    public static double[] doubleArray(Config slice, String key) {
+        ConfigValue declared = slice.getValue(key);
+        if (ExternalSection.isReference(declared)) {
+            return ExternalSection.open(declared, key).doubleArray();
+        }
+        ConfigList list = slice.getList(key);
+        double[] values = new double[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            ConfigValue value = list.get(i);
+            values[i] = value.valueType() == ConfigValueType.NUMBER
+                    ? ((Number) value.unwrapped()).doubleValue()
+                    : holder(value, key, i).getDouble(elementPath(key, i));
+        }
+        return values;
+    }
+
+    /**
+     * @return An immutable list; {@code null} elements are rejected.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> list(Config slice, String key, Class<E> elementType) {
+        ConfigValue declared = slice.getValue(key);
+        if (ExternalSection.isReference(declared)) {
+            return ExternalSection.open(declared, key).list(elementType);
+        }
+        ConfigList list = slice.getList(key);
+        E[] values = (E[]) new Object[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = convert(list.get(i), elementPath(key, i), elementType);
+        }
+        return List.of(values);
+    }
+
+    /**
+     * @return An immutable set; duplicate elements in the config list are collapsed.
+     */
+    public static <E> Set<E> set(Config slice, String key, Class<E> elementType) {
+        return Set.copyOf(list(slice, key, elementType));
+    }
+
+    /**
+     * @return An immutable map of the object at {@code key}, keyed by its (unquoted) field names.
+     */
+    public static <V> Map<String, V> map(Config slice, String key, Class<V> valueType) {
+        ConfigValue declared = slice.getValue(key);
+        if (ExternalSection.isReference(declared)) {
+            return ExternalSection.open(declared, key).map(valueType);
+        }
+        ConfigObject object = slice.getObject(key);
+        Map<String, V> values = HashMap.newHashMap(object.size());
+        object.forEach((name, value) -> values.put(name, convert(value, ConfigUtil.joinPath(key, name), valueType)));
+        return Map.copyOf(values);
+    }
+
+    /**
+     * Binds and validates the object at {@code key} as a nested record.
+     *
+     * @throws ConfigValidationException with problems prefixed by {@code key}.
+     */
+    public static <R> R record(Config slice, String key, Class<R> recordType) {
+        return ConfigMapper.bindNested(slice.getConfig(key), key, recordType);
+    }
+
+    /**
+     * @return Whether collections and maps of this element type can be bound.
+     */
+    static boolean isSupportedElement(Class<?> type) {
+        return type == String.class || type == Integer.class || type == Long.class || type == Double.class
+                || type == Boolean.class || type == Duration.class || type.isRecord();
+    }
+
+    /**
+     * Converts one list element or map value. Plain strings and numbers are taken as they are;
+     * anything else goes through the typed getter for Typesafe's usual conversions and errors.
+     *
+     * @param path The value's path relative to the bound record, used in error messages.
+     */
+    static <E> E convert(ConfigValue value, String path, Class<E> type) {
+        Object unwrapped = value.unwrapped();
+        Object result;
+        if (type == String.class) {
+            result = value.valueType() == ConfigValueType.STRING ? unwrapped : value.atPath(path).getString(path);
+        } else if (type == Integer.class) {
+            result = unwrapped instanceof Integer ? unwrapped : value.atPath(path).getInt(path);
+        } else if (type == Long.class) {
+            result = unwrapped instanceof Long ? unwrapped : value.atPath(path).getLong(path);
+        } else if (type == Double.class) {
+            result = unwrapped instanceof Double ? unwrapped : value.atPath(path).getDouble(path);
+        } else if (type == Boolean.class) {
+            result = unwrapped instanceof Boolean ? unwrapped : value.atPath(path).getBoolean(path);
+        } else if (type == Duration.class) {
+            result = value.atPath(path).getDuration(path);
+        } else if (type.isRecord()) {
+            if (!(value instanceof ConfigObject object)) {
+                throw new ConfigException.WrongType(value.origin(), path, "OBJECT", value.valueType().name());
+            }
+            result = ConfigMapper.bindNested(object.toConfig(), path, type);
+        } else {
+            throw new UnsupportedOperationException("Unsupported config type: " + type.getSimpleName());
+        }
+        return type.cast(result);
+    }
+
+    /**
+     * Places a single list element at its own path, so that the typed getters report errors against it.
+     */
+    private static Config holder(ConfigValue value, String key, int index) {
+        return value.atPath(elementPath(key, index));
+    }
+
+    private static String elementPath(String key, int index) {
+        return ConfigUtil.joinPath(key, Integer.toString(index));
+    }
+}
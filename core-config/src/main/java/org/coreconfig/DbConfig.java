@@ -3,10 +3,11 @@ package org.coreconfig;
 import jakarta.validation.constraints.*;
 import java.time.Duration;
 
+@ConfigRecord
 public record DbConfig(
         @NotBlank @Pattern(regexp = "^jdbc:.*") String url,
         @NotBlank String user,
         @NotBlank String password,
-        @Positive int poolSize,
+        @Positive(message = "must be positive") int poolSize,
         @NotNull Duration timeout
 ) {}
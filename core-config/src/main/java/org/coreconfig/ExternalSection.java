@@ -0,0 +1,608 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigOrigin;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import com.typesafe.config.ConfigValueType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a large array, collection or lookup table from its own JSON or CSV file instead of the config tree.
+ *
+ * A component is externally sourced when its config value is a string instead of a list or object, e.g.
+ * {@code instruments = "reference/instruments.csv"}. Relative paths are resolved against the directory of
+ * the config file that declares them, and the format follows the file extension. The file is memory-mapped
+ * and scanned once; numbers for primitive arrays are parsed straight from the mapped bytes into the array.
+ *
+ * Accepted shapes:
+ * <ul>
+ *   <li>{@code int[]}, {@code long[]}, {@code double[]}, {@code List<E>}, {@code Set<E>}: a JSON array, or CSV
+ *       values separated by commas and/or line breaks.</li>
+ *   <li>{@code List<R>} of records: a JSON array of flat objects, or CSV with a header row of config keys.</li>
+ *   <li>{@code Map<String, V>}: a JSON object, or CSV lines of {@code key,value}.</li>
+ *   <li>{@code Map<String, R>} of records: a JSON object of flat objects, or CSV with a header row; the first
+ *       column is the map key.</li>
+ * </ul>
+ *
+ * Records read this way are bound and validated like any nested record. The effective-config log only
+ * shows the file reference, and values from sections whose path looks secret are never quoted in errors.
+ */
+final class ExternalSection {
+    private static final Logger log = LoggerFactory.getLogger(ExternalSection.class);
+
+    private enum Format { JSON, CSV }
+
+    private final ConfigOrigin origin;
+    private final String path;
+    private final Path file;
+    private final Format format;
+    private final ByteBuffer bytes;
+    private final long started = System.nanoTime();
+    private final BootEvents.ExternalSectionRead event = new BootEvents.ExternalSectionRead();
+
+    private int pos;
+    private boolean opened;
+    /** The current scalar: bytes [tokenStart, tokenEnd), and whether it needs unescaping. */
+    private int tokenStart;
+    private int tokenEnd;
+    private boolean escaped;
+    /** The current element when it is an object (JSON) or a row (CSV with header); null for scalars. */
+    private Map<String, Object> row;
+    /** The current map key, when reading entries. */
+    private String entryKey;
+    private List<String> header;
+
+    private ExternalSection(ConfigOrigin origin, String path, Path file, Format format, ByteBuffer bytes) {
+        this.origin = origin;
+        this.path = path;
+        this.file = file;
+        this.format = format;
+        this.bytes = bytes;
+        event.begin();
+    }
+
+    /**
+     * @return Whether a declared value refers to an external file rather than holding the data itself.
+     */
+    static boolean isReference(ConfigValue declared) {
+        return declared.valueType() == ConfigValueType.STRING;
+    }
+
+    /**
+     * Maps the referenced file.
+     *
+     * @param path The component's path relative to the bound record, for messages.
+     * @throws ConfigException.BadValue if the file cannot be read or has an unknown extension.
+     */
+    static ExternalSection open(ConfigValue reference, String path) {
+        Path file = resolve(reference);
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        Format format;
+        if (name.endsWith(".json")) {
+            format = Format.JSON;
+        } else if (name.endsWith(".csv")) {
+            format = Format.CSV;
+        } else {
+            throw new ConfigException.BadValue(reference.origin(), path,
+                    "External section " + file + " must be a .json or .csv file");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new ConfigException.BadValue(reference.origin(), path, "External section " + file + " is larger than 2 GiB");
+            }
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new ExternalSection(reference.origin(), path, file, format, bytes);
+        } catch (IOException e) {
+            throw new ConfigException.BadValue(reference.origin(), path,
+                    "Cannot read external section " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static Path resolve(ConfigValue reference) {
+        Path file = Path.of((String) reference.unwrapped());
+        String declaredIn = reference.origin().filename();
+        if (!file.isAbsolute() && declaredIn != null) {
+            Path parent = Path.of(declaredIn).toAbsolutePath().getParent();
+            return parent != null ? parent.resolve(file) : file;
+        }
+        return file;
+    }
+
+    int[] intArray() {
+        int[] values = new int[64];
+        int count = 0;
+        while (next(false, false)) {
+            long value = longToken(count);
+            if ((int) value != value) {
+                throw invalid(count, "is out of range for int");
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = (int) value;
+        }
+        return done(Arrays.copyOf(values, count), count);
+    }
+
+    long[] longArray() {
+        long[] values = new long[64];
+        int count = 0;
+        while (next(false, false)) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count] = longToken(count);
+            count++;
+        }
+        return done(Arrays.copyOf(values, count), count);
+    }
+
+    double[] doubleArray() {
+        double[] values = new double[64];
+        int count = 0;
+        while (next(false, false)) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count] = doubleToken(count);
+            count++;
+        }
+        return done(Arrays.copyOf(values, count), count);
+    }
+
+    /**
+     * @return An immutable list of the file's elements.
+     */
+    <E> List<E> list(Class<E> elementType) {
+        List<E> values = new ArrayList<>();
+        while (next(false, elementType.isRecord())) {
+            values.add(element(elementPath(Integer.toString(values.size())), elementType));
+        }
+        return done(List.copyOf(values), values.size());
+    }
+
+    /**
+     * @return An immutable map of the file's entries; a repeated key keeps its last value.
+     */
+    <V> Map<String, V> map(Class<V> valueType) {
+        Map<String, V> values = new HashMap<>();
+        while (next(true, valueType.isRecord())) {
+            values.put(entryKey, element(elementPath(entryKey), valueType));
+        }
+        return done(Map.copyOf(values), values.size());
+    }
+
+    private <T> T done(T values, int count) {
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.file = file.toString();
+            event.elements = count;
+            event.bytes = bytes.limit();
+            event.commit();
+        }
+        if (log.isInfoEnabled()) {
+            log.info("Read external section '{}' from {} ({} element(s), {} bytes) in {}.", path, file, count,
+                    bytes.limit(), String.format(Locale.ROOT, "%.2fms", (System.nanoTime() - started) / 1_000_000.0));
+        }
+        return values;
+    }
+
+    private <E> E element(String elementPath, Class<E> type) {
+        if (row != null) {
+            if (!type.isRecord()) {
+                throw wrongShape(elementPath, "an object", type);
+            }
+            return ConfigValues.convert(ConfigValueFactory.fromMap(row, file.toString()), elementPath, type);
+        }
+        if (type.isRecord()) {
+            throw wrongShape(elementPath, "a plain value", type);
+        }
+        if (type == String.class) {
+            return type.cast(text());
+        }
+        return ConfigValues.convert(ConfigValueFactory.fromAnyRef(text(), file.toString()), elementPath, type);
+    }
+
+    // ---- Scanning ----
+
+    /**
+     * Advances to the next element, or to the next entry when {@code entries} is set. Afterwards either
+     * {@link #row} holds an object (when {@code rows} is set) or the token holds a scalar.
+     *
+     * @return false once the input is exhausted.
+     */
+    private boolean next(boolean entries, boolean rows) {
+        row = null;
+        escaped = false;
+        return format == Format.JSON ? nextJson(entries) : nextCsv(entries, rows);
+    }
+
+    private boolean nextJson(boolean entries) {
+        char close = entries ? '}' : ']';
+        skipWhitespace();
+        if (!opened) {
+            expect(entries ? '{' : '[');
+            opened = true;
+            skipWhitespace();
+            if (peek() == close) {
+                pos++;
+                return finish();
+            }
+        } else {
+            int c = read();
+            if (c == close) {
+                return finish();
+            }
+            if (c != ',') {
+                throw malformed("expected ',' or '" + close + "'");
+            }
+            skipWhitespace();
+        }
+        if (entries) {
+            entryKey = jsonKey();
+        }
+        if (peek() == '{') {
+            row = jsonObject();
+        } else {
+            jsonScalar();
+        }
+        return true;
+    }
+
+    private String jsonKey() {
+        if (peek() != '"') {
+            throw malformed("expected a string key");
+        }
+        jsonScalar();
+        String key = text();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+        return key;
+    }
+
+    /**
+     * Reads a flat JSON object; its values stay strings (or null) and are converted when the record is bound.
+     */
+    private Map<String, Object> jsonObject() {
+        expect('{');
+        Map<String, Object> object = new LinkedHashMap<>();
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = jsonKey();
+            if (peek() == '{' || peek() == '[') {
+                throw malformed("nested values are not supported in external sections");
+            }
+            boolean string = peek() == '"';
+            jsonScalar();
+            String value = text();
+            object.put(key, string || !value.equals("null") ? value : null);
+            skipWhitespace();
+            int c = read();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw malformed("expected ',' or '}'");
+            }
+        }
+    }
+
+    private void jsonScalar() {
+        int c = peek();
+        if (c == '"') {
+            pos++;
+            tokenStart = pos;
+            while (true) {
+                int b = read();
+                if (b == '"') {
+                    break;
+                }
+                if (b == '\\') {
+                    escaped = true;
+                    read();
+                }
+            }
+            tokenEnd = pos - 1;
+            return;
+        }
+        if (c == '[' || c == '{') {
+            throw malformed("nested values need a record element type");
+        }
+        tokenStart = pos;
+        while (pos < bytes.limit() && !isJsonDelimiter(bytes.get(pos))) {
+            pos++;
+        }
+        tokenEnd = pos;
+        if (tokenStart == tokenEnd) {
+            throw malformed("expected a value");
+        }
+    }
+
+    private static boolean isJsonDelimiter(byte b) {
+        return b == ',' || b == ']' || b == '}' || b == ':' || b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private boolean nextCsv(boolean entries, boolean rows) {
+        if (rows) {
+            if (header == null) {
+                List<String> names = csvLine();
+                if (names == null) {
+                    return false;
+                }
+                header = names;
+            }
+            List<String> fields = csvLine();
+            if (fields == null) {
+                return false;
+            }
+            if (fields.size() != header.size()) {
+                throw malformed("expected " + header.size() + " columns but found " + fields.size());
+            }
+            row = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                row.put(header.get(i), fields.get(i));
+            }
+            entryKey = fields.get(0);
+            return true;
+        }
+        if (entries) {
+            if (!skipBlankLines()) {
+                return false;
+            }
+            csvField();
+            entryKey = text();
+            if (peek() != ',') {
+                throw malformed("expected 'key,value'");
+            }
+            pos++;
+            csvField();
+            if (pos < bytes.limit() && bytes.get(pos) != '\r' && bytes.get(pos) != '\n') {
+                throw malformed("expected 'key,value'");
+            }
+            return true;
+        }
+        // Plain values: commas and line breaks both separate them, blank fields are skipped.
+        while (pos < bytes.limit()) {
+            byte b = bytes.get(pos);
+            if (b == ',' || b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                pos++;
+            } else {
+                csvField();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The fields of the next non-blank line, or null at the end of the input.
+     */
+    private List<String> csvLine() {
+        if (!skipBlankLines()) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        while (true) {
+            csvField();
+            fields.add(text());
+            if (pos < bytes.limit() && bytes.get(pos) == ',') {
+                pos++;
+                continue;
+            }
+            return fields;
+        }
+    }
+
+    private boolean skipBlankLines() {
+        while (pos < bytes.limit() && (bytes.get(pos) == '\r' || bytes.get(pos) == '\n')) {
+            pos++;
+        }
+        return pos < bytes.limit();
+    }
+
+    /**
+     * Scans one CSV field, quoted ({@code "a ""b"""}) or not, leaving the position on the separator after it.
+     */
+    private void csvField() {
+        while (pos < bytes.limit() && (bytes.get(pos) == ' ' || bytes.get(pos) == '\t')) {
+            pos++;
+        }
+        escaped = false;
+        if (pos < bytes.limit() && bytes.get(pos) == '"') {
+            pos++;
+            tokenStart = pos;
+            while (true) {
+                int b = read();
+                if (b == '"') {
+                    if (pos < bytes.limit() && bytes.get(pos) == '"') {
+                        escaped = true;
+                        pos++;
+                        continue;
+                    }
+                    break;
+                }
+            }
+            tokenEnd = pos - 1;
+            while (pos < bytes.limit() && (bytes.get(pos) == ' ' || bytes.get(pos) == '\t')) {
+                pos++;
+            }
+            return;
+        }
+        tokenStart = pos;
+        while (pos < bytes.limit() && bytes.get(pos) != ',' && bytes.get(pos) != '\r' && bytes.get(pos) != '\n') {
+            pos++;
+        }
+        tokenEnd = pos;
+        while (tokenEnd > tokenStart && (bytes.get(tokenEnd - 1) == ' ' || bytes.get(tokenEnd - 1) == '\t')) {
+            tokenEnd--;
+        }
+    }
+
+    // ---- Tokens ----
+
+    /**
+     * Parses the current token as a whole number directly from the mapped bytes.
+     */
+    private long longToken(int index) {
+        int i = tokenStart;
+        boolean negative = i < tokenEnd && bytes.get(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == tokenEnd) {
+            throw invalid(index, "is not a whole number");
+        }
+        long value = 0;
+        for (; i < tokenEnd; i++) {
+            int digit = bytes.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalid(index, "is not a whole number");
+            }
+            // Accumulate negatively so that Long.MIN_VALUE fits.
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                throw invalid(index, "is out of range for long");
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            throw invalid(index, "is out of range for long");
+        }
+        return negative ? value : -value;
+    }
+
+    private double doubleToken(int index) {
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            byte b = bytes.get(i);
+            if ((b < '0' || b > '9') && b != '-') {
+                try {
+                    return Double.parseDouble(text());
+                } catch (NumberFormatException e) {
+                    throw invalid(index, "is not a number");
+                }
+            }
+        }
+        return longToken(index);
+    }
+
+    private String text() {
+        byte[] raw = new byte[tokenEnd - tokenStart];
+        bytes.get(tokenStart, raw);
+        String text = new String(raw, StandardCharsets.UTF_8);
+        if (!escaped) {
+            return text;
+        }
+        return format == Format.CSV ? text.replace("\"\"", "\"") : unescapeJson(text);
+    }
+
+    private String unescapeJson(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                sb.append(c);
+                continue;
+            }
+            char e = text.charAt(++i);
+            switch (e) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (i + 4 >= text.length()) {
+                        throw malformed("truncated \\u escape");
+                    }
+                    sb.append((char) Integer.parseInt(text, i + 1, i + 5, 16));
+                    i += 4;
+                }
+                default -> sb.append(e);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void skipWhitespace() {
+        while (pos < bytes.limit()) {
+            byte b = bytes.get(pos);
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private int peek() {
+        return pos < bytes.limit() ? bytes.get(pos) : -1;
+    }
+
+    private int read() {
+        if (pos >= bytes.limit()) {
+            throw malformed("unexpected end of file");
+        }
+        return bytes.get(pos++);
+    }
+
+    private void expect(char c) {
+        if (read() != c) {
+            throw malformed("expected '" + c + "'");
+        }
+    }
+
+    private boolean finish() {
+        skipWhitespace();
+        if (pos < bytes.limit()) {
+            throw malformed("unexpected content after the end of the value");
+        }
+        return false;
+    }
+
+    // ---- Errors ----
+
+    private String elementPath(String key) {
+        return ConfigUtil.joinPath(path, key);
+    }
+
+    private ConfigException malformed(String problem) {
+        return new ConfigException.BadValue(origin, path,
+                "Malformed " + format + " in " + file + " at byte " + pos + ": " + problem);
+    }
+
+    private ConfigException invalid(int index, String problem) {
+        return invalid(elementPath(Integer.toString(index)), problem);
+    }
+
+    private ConfigException wrongShape(String elementPath, String found, Class<?> expected) {
+        return new ConfigException.BadValue(origin, elementPath,
+                "Found " + found + " in " + file + " where " + expected.getSimpleName() + " was expected");
+    }
+
+    private ConfigException invalid(String elementPath, String problem) {
+        String value = ConfigLoader.isSecretKey(path) ? "[REDACTED]" : "'" + text() + "'";
+        return new ConfigException.BadValue(origin, elementPath, "Value " + value + " in " + file + " " + problem);
+    }
+}
@@ -3,6 +3,7 @@ package org.coreconfig;
 import jakarta.validation.constraints.*;
 import java.time.Duration;
 
+@ConfigRecord
 public record HttpConfig(
         @Min(1) @Max(65535) int port,
         @NotBlank String host,
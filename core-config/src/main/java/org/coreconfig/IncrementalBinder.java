@@ -0,0 +1,125 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the last bound aggregate together with the config tree it came from, and rebinds only
+ * the sections whose subtree changed on the next tree. Unchanged sections keep their existing
+ * record instances, so consumers can use identity to skip work.
+ *
+ * Sections are bound with the same {@link BootOptions} on every rebind as at the start: strict options bind
+ * {@link Lazy} sections eagerly, and parallel options rebind the affected sections concurrently.
+ *
+ * Not thread-safe; {@link ReloadableConfig} calls it under its reload lock.
+ */
+final class IncrementalBinder<T> {
+
+    /**
+     * The outcome of a rebind.
+     *
+     * @param value           The new aggregate.
+     * @param changedPaths    Paths that differ between the old and new trees.
+     * @param changedSections Sections that were rebound to a record not equal to the previous one.
+     */
+    record Update<T>(T value, Set<String> changedPaths, Map<String, Object> changedSections) {}
+
+    private final ConfigMapper mapper = new ConfigMapper();
+    private final ConfigBinder<T> binder;
+    private final BootOptions options;
+    private final List<String> names;
+    private final List<Class<?>> types;
+    private final List<Class<?>> elementTypes;
+
+    private Config root;
+    private Object[] sections;
+    private T value;
+
+    IncrementalBinder(Class<T> aggregateConfigType, Config initialRoot, BootOptions options, BootRecorder recorder) {
+        this.binder = ConfigMapper.binder(aggregateConfigType);
+        this.options = options;
+        this.names = binder.componentNames();
+        this.types = binder.componentTypes();
+        this.elementTypes = binder.componentElementTypes();
+
+        Object[] initial = SectionBinder.bindAll(mapper, initialRoot, binder, options, recorder);
+        this.root = initialRoot;
+        this.sections = initial;
+        this.value = binder.construct(initial.clone());
+    }
+
+    T value() {
+        return value;
+    }
+
+    /**
+     * Diffs the new tree against the last one and rebinds the affected sections.
+     * If mapping or validation of any section fails, nothing is committed; every affected section is
+     * attempted, and their problems are thrown together.
+     *
+     * @param recorder Receives a timing (and a Flight Recorder event) per rebound section.
+     * @return The update, or null if the trees are identical.
+     * @throws ConfigValidationException listing the problems of every section that failed.
+     */
+    Update<T> rebind(Config newRoot, BootRecorder recorder) {
+        Set<String> changedPaths = ConfigDiff.changedPaths(root.root(), newRoot.root());
+        if (changedPaths.isEmpty()) {
+            return null;
+        }
+
+        Object[] rebound = new Object[sections.length];
+        RuntimeException[] failures = new RuntimeException[sections.length];
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < sections.length; i++) {
+            String path = names.get(i);
+            if (!ConfigDiff.affects(changedPaths, path)) {
+                continue;
+            }
+            int index = i;
+            tasks.add(() -> {
+                BootEvents.Section event = recorder.section(path, types.get(index));
+                long start = System.nanoTime();
+                try {
+                    // A lazy section already in use is checked now, so a bad change is rejected with the reload.
+                    boolean eager = options.isStrict() || sections[index] instanceof Lazy<?> lazy && lazy.isBound();
+                    rebound[index] = SectionBinder.bindSection(mapper, newRoot, path, types.get(index),
+                            elementTypes.get(index), eager);
+                } catch (RuntimeException e) {
+                    failures[index] = e;
+                } finally {
+                    recorder.sectionDone(event, System.nanoTime() - start, failures[index] == null);
+                }
+            });
+        }
+        if (options.isParallel() && tasks.size() > 1) {
+            SectionBinder.runConcurrently(tasks.toArray(Runnable[]::new), options.executor());
+        } else {
+            tasks.forEach(Runnable::run);
+        }
+        ConfigValidationException failure = SectionBinder.aggregate(names, failures);
+        if (failure != null) {
+            throw failure;
+        }
+
+        Object[] next = sections.clone();
+        Map<String, Object> changedSections = new LinkedHashMap<>();
+        for (int i = 0; i < next.length; i++) {
+            if (ConfigDiff.affects(changedPaths, names.get(i)) && !SectionContent.equal(rebound[i], sections[i])) {
+                next[i] = rebound[i];
+                changedSections.put(names.get(i), rebound[i]);
+            }
+        }
+
+        root = newRoot;
+        if (!changedSections.isEmpty()) {
+            sections = next;
+            value = binder.construct(next.clone());
+        }
+        return new Update<>(value, changedPaths, changedSections);
+    }
+}
@@ -0,0 +1,142 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValue;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A config section that is bound and validated on first access instead of at boot.
+ *
+ * Declare optional subsystems this way in the aggregate record, e.g.
+ * {@code record AppConfig(HttpConfig http, DbConfig db, Lazy<ReportingConfig> reporting)}.
+ * A process that never calls {@code reporting().get()} never binds or validates that section.
+ * The result, or the failure, is memoized; concurrent first calls bind only once.
+ *
+ * For fail-fast checks (e.g. in CI), boot with {@link BootOptions#strict()} or
+ * {@code -Dcoreconfig.strict=true} to bind every lazy section at boot like any other.
+ *
+ * Two lazy sections are equal when they come from the same path and config subtree, so a reload
+ * that leaves the subtree alone keeps the existing instance (and anything it already bound).
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private static final ConfigMapper MAPPER = new ConfigMapper();
+
+    /** A memoized binding or validation failure, rethrown on every access. */
+    private record Failure(RuntimeException exception) {}
+
+    private final Config root;
+    private final String path;
+    private final Class<T> recordType;
+    private final ConfigValue source;
+    private volatile Object state;
+
+    private Lazy(Config root, String path, Class<T> recordType, Object state) {
+        this.root = root;
+        this.path = path;
+        this.recordType = recordType;
+        this.source = root != null && root.hasPath(path) ? root.getValue(path) : null;
+        this.state = state;
+    }
+
+    /**
+     * A section at {@code path} under {@code root}, bound to {@code recordType} on first {@link #get()}.
+     * Used by binders; the path is not required to exist until then.
+     */
+    public static <T> Lazy<T> section(Config root, String path, Class<T> recordType) {
+        return new Lazy<>(Objects.requireNonNull(root), Objects.requireNonNull(path), Objects.requireNonNull(recordType), null);
+    }
+
+    /**
+     * A section that was bound eagerly (strict mode); it compares equal to an unbound one from the same subtree.
+     */
+    static <T> Lazy<T> bound(Config root, String path, Class<T> recordType, T value) {
+        return new Lazy<>(root, path, recordType, value);
+    }
+
+    /**
+     * An already-bound value, e.g. for tests or hand-built configs.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(null, null, (Class<T>) value.getClass(), value);
+    }
+
+    /**
+     * Binds and validates the section on the first call and returns the memoized record afterwards.
+     *
+     * @throws ConfigValidationException if the section is missing, cannot be mapped, or fails validation;
+     *         every later call throws the same exception.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object current = state;
+        if (current == null) {
+            synchronized (this) {
+                current = state;
+                if (current == null) {
+                    current = bind();
+                    state = current;
+                }
+            }
+        }
+        if (current instanceof Failure failure) {
+            throw failure.exception();
+        }
+        return (T) current;
+    }
+
+    /**
+     * @return The record type this section binds to.
+     */
+    Class<T> recordType() {
+        return recordType;
+    }
+
+    /**
+     * @return true once {@link #get()} has bound the section (successfully or not).
+     */
+    public boolean isBound() {
+        return state != null;
+    }
+
+    private Object bind() {
+        BootRecorder recorder = new BootRecorder();
+        BootEvents.Section event = recorder.section(path, recordType);
+        long start = System.nanoTime();
+        try {
+            T value = MAPPER.map(root, path, recordType);
+            recorder.sectionDone(event, System.nanoTime() - start, true);
+            return value;
+        } catch (RuntimeException e) {
+            recorder.sectionDone(event, System.nanoTime() - start, false);
+            return new Failure(SectionBinder.aggregate(List.of(path), new RuntimeException[] {e}));
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Lazy<?> other) || recordType != other.recordType || !Objects.equals(path, other.path)) {
+            return false;
+        }
+        return root != null ? Objects.equals(source, other.source) : Objects.equals(state, other.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, recordType, root != null ? source : state);
+    }
+
+    @Override
+    public String toString() {
+        Object current = state;
+        return "Lazy[" + (current == null ? (path + ": not bound yet") : current) + "]";
+    }
+}
@@ -0,0 +1,341 @@
+package org.coreconfig;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Validates bound records against their jakarta.validation constraints.
+ *
+ * Config records use a handful of constraints: {@code @NotNull}, {@code @NotBlank}, {@code @Pattern} and
+ * {@code @Min}/{@code @Max}/{@code @Positive} on integral components. For a record that only uses those, the
+ * constraints are compiled once per type into direct checks (with the {@code Pattern} precompiled), which report
+ * the same problems as Hibernate Validator. Hibernate Validator, whose bootstrap is most of the classes loaded at
+ * boot, only starts for a record that declares anything else: other or custom constraints, groups, payloads,
+ * {@code @Valid}, type-argument constraints, interpolated messages or constraints on other methods. Its results are
+ * memoized per record type and content (records compare by value), so re-validating an unchanged section, e.g. on
+ * reload or for many tenants sharing it, costs a lookup.
+ *
+ * Compiled checks are only used with Hibernate Validator's default English messages; set
+ * {@code -Dcoreconfig.compiledValidation=false} to always use Hibernate Validator.
+ */
+final class RecordValidator {
+
+    private static final boolean COMPILE =
+            Boolean.parseBoolean(System.getProperty("coreconfig.compiledValidation", "true")) && defaultMessages();
+
+    /** Entries kept per record type validated by Hibernate Validator before the memo starts over. */
+    private static final int MEMO_LIMIT = 256;
+
+    private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(
+            int.class, long.class, short.class, byte.class, Integer.class, Long.class, Short.class, Byte.class);
+
+    private static final Set<String> GETTER_PREFIXES = Set.of("get", "is", "has");
+
+    private static final ClassValue<RecordValidator> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected RecordValidator computeValue(Class<?> type) {
+            List<ComponentChecks> checks = COMPILE ? compile(type) : null;
+            return new RecordValidator(checks);
+        }
+    };
+
+    /**
+     * Holds the validator so that Hibernate Validator's (slow) bootstrap runs on first use rather
+     * than when this class loads, and only if some record needs it.
+     */
+    private static final class HibernateHolder {
+        static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    /**
+     * One component's compiled constraints, read through its accessor.
+     */
+    private record ComponentChecks(String name, MethodHandle accessor, List<Check> checks) {}
+
+    /**
+     * One compiled constraint: whether a value satisfies it, and the problem reported when it does not.
+     */
+    private record Check(Predicate<Object> valid, String message) {}
+
+    /** The compiled checks, or null when Hibernate Validator validates this type. */
+    private final List<ComponentChecks> checks;
+    private final Map<Object, List<String>> memo;
+
+    private RecordValidator(List<ComponentChecks> checks) {
+        this.checks = checks;
+        this.memo = checks == null ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Validates a record.
+     *
+     * @return One problem per violated constraint (e.g. "poolSize must be positive"); empty if it is valid.
+     */
+    static List<String> problems(Object record) {
+        return VALIDATORS.get(record.getClass()).check(record);
+    }
+
+    /**
+     * @return Whether a record type is validated by compiled checks, i.e. without Hibernate Validator.
+     */
+    static boolean compiled(Class<?> type) {
+        return VALIDATORS.get(type).checks != null;
+    }
+
+    /**
+     * Compiles the validation of each record component of an aggregate (its sections), and bootstraps
+     * Hibernate Validator if any of them needs it, so boot can time it as its own phase.
+     */
+    static void prepare(ConfigBinder<?> aggregate) {
+        List<Class<?>> types = new ArrayList<>(aggregate.componentTypes());
+        types.addAll(aggregate.componentElementTypes());
+        boolean hibernate = false;
+        for (Class<?> type : types) {
+            if (type != null && type.isRecord() && !compiled(type)) {
+                hibernate = true;
+            }
+        }
+        if (hibernate) {
+            hibernate();
+        }
+    }
+
+    /**
+     * Returns the shared Hibernate Validator, bootstrapping it on first use.
+     */
+    static Validator hibernate() {
+        return HibernateHolder.VALIDATOR;
+    }
+
+    private List<String> check(Object record) {
+        if (checks == null) {
+            return memoized(record);
+        }
+        List<String> problems = null;
+        for (ComponentChecks component : checks) {
+            Object value;
+            try {
+                value = component.accessor().invoke(record);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read " + component.name() + " of " + record.getClass().getName(), e);
+            }
+            for (Check check : component.checks()) {
+                if (!check.valid().test(value)) {
+                    if (problems == null) {
+                        problems = new ArrayList<>(2);
+                    }
+                    problems.add(component.name() + " " + check.message());
+                }
+            }
+        }
+        return problems == null ? List.of() : problems;
+    }
+
+    private List<String> memoized(Object record) {
+        List<String> problems = memo.get(record);
+        if (problems == null) {
+            problems = hibernate().validate(record).stream()
+                    .map(cv -> cv.getPropertyPath() + " " + cv.getMessage())
+                    .toList();
+            if (memo.size() >= MEMO_LIMIT) {
+                memo.clear();
+            }
+            memo.put(record, problems);
+        }
+        return problems;
+    }
+
+    /**
+     * Compiles the constraints of a record type, or returns null if Hibernate Validator has to validate it.
+     */
+    private static List<ComponentChecks> compile(Class<?> type) {
+        if (!type.isRecord() || hasConstraints(type.getAnnotations())) {
+            return null;
+        }
+        RecordComponent[] components = type.getRecordComponents();
+        Set<Method> accessors = new HashSet<>();
+        List<ComponentChecks> compiled = new ArrayList<>();
+        try {
+            for (RecordComponent component : components) {
+                accessors.add(component.getAccessor());
+                Field field = type.getDeclaredField(component.getName());
+                if (hasTypeArgumentConstraints(field.getAnnotatedType())) {
+                    return null;
+                }
+                List<Check> checks = new ArrayList<>();
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (annotation instanceof Valid) {
+                        return null;
+                    }
+                    if (isConstraint(annotation)) {
+                        Check check = compile(annotation, component.getType());
+                        if (check == null) {
+                            return null;
+                        }
+                        checks.add(check);
+                    }
+                }
+                if (checks.isEmpty()) {
+                    continue;
+                }
+                if (isGetterName(component.getName())) {
+                    // Hibernate Validator also validates the accessor as a JavaBeans getter.
+                    return null;
+                }
+                Method accessor = component.getAccessor();
+                accessor.trySetAccessible();
+                compiled.add(new ComponentChecks(component.getName(), MethodHandles.lookup().unreflect(accessor), List.copyOf(checks)));
+            }
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (!accessors.contains(method) && !Modifier.isStatic(method.getModifiers()) && hasConstraints(method.getAnnotations())) {
+                return null;
+            }
+        }
+        return List.copyOf(compiled);
+    }
+
+    /**
+     * Compiles one supported constraint with the default group and no payload, or returns null.
+     */
+    private static Check compile(Annotation annotation, Class<?> valueType) {
+        boolean text = CharSequence.class.isAssignableFrom(valueType);
+        boolean integral = INTEGRAL_TYPES.contains(valueType);
+        if (annotation instanceof NotNull notNull && notNull.groups().length == 0 && notNull.payload().length == 0) {
+            return check(notNull.message(), "NotNull", "must not be null", value -> value != null);
+        }
+        if (annotation instanceof NotBlank notBlank && text && notBlank.groups().length == 0 && notBlank.payload().length == 0) {
+            return check(notBlank.message(), "NotBlank", "must not be blank",
+                    value -> value != null && !value.toString().trim().isEmpty());
+        }
+        if (annotation instanceof Pattern pattern && text && pattern.groups().length == 0 && pattern.payload().length == 0) {
+            int flags = 0;
+            for (Pattern.Flag flag : pattern.flags()) {
+                flags |= flag.getValue();
+            }
+            java.util.regex.Pattern regex;
+            try {
+                regex = java.util.regex.Pattern.compile(pattern.regexp(), flags);
+            } catch (IllegalArgumentException e) {
+                return null; // Let Hibernate Validator report it.
+            }
+            return check(pattern.message(), "Pattern", "must match \"" + pattern.regexp() + "\"",
+                    value -> value == null || regex.matcher((CharSequence) value).matches());
+        }
+        if (annotation instanceof Min min && integral && min.groups().length == 0 && min.payload().length == 0) {
+            long bound = min.value();
+            return check(min.message(), "Min", "must be greater than or equal to " + bound,
+                    value -> value == null || ((Number) value).longValue() >= bound);
+        }
+        if (annotation instanceof Max max && integral && max.groups().length == 0 && max.payload().length == 0) {
+            long bound = max.value();
+            return check(max.message(), "Max", "must be less than or equal to " + bound,
+                    value -> value == null || ((Number) value).longValue() <= bound);
+        }
+        if (annotation instanceof Positive positive && integral && positive.groups().length == 0 && positive.payload().length == 0) {
+            return check(positive.message(), "Positive", "must be greater than 0",
+                    value -> value == null || ((Number) value).longValue() > 0);
+        }
+        return null;
+    }
+
+    /**
+     * @return The check, reporting the default message or a literal custom one; null if the message needs interpolation.
+     */
+    private static Check check(String template, String constraint, String defaultMessage, Predicate<Object> valid) {
+        if (template.equals("{jakarta.validation.constraints." + constraint + ".message}")) {
+            return new Check(valid, defaultMessage);
+        }
+        if (template.chars().anyMatch(c -> c == '{' || c == '}' || c == '$' || c == '\\')) {
+            return null;
+        }
+        return new Check(valid, template);
+    }
+
+    private static boolean isConstraint(Annotation annotation) {
+        Class<? extends Annotation> type = annotation.annotationType();
+        if (type.isAnnotationPresent(Constraint.class)) {
+            return true;
+        }
+        // A container of repeated constraints, e.g. @Min.List.
+        try {
+            Class<?> value = type.getMethod("value").getReturnType();
+            return value.isArray() && value.getComponentType().isAnnotationPresent(Constraint.class);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasConstraints(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof Valid || isConstraint(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasTypeArgumentConstraints(AnnotatedType type) {
+        if (type instanceof AnnotatedParameterizedType parameterized) {
+            for (AnnotatedType argument : parameterized.getAnnotatedActualTypeArguments()) {
+                if (hasConstraints(argument.getAnnotations()) || hasTypeArgumentConstraints(argument)) {
+                    return true;
+                }
+            }
+        } else if (type instanceof AnnotatedArrayType array) {
+            AnnotatedType component = array.getAnnotatedGenericComponentType();
+            return hasConstraints(component.getAnnotations()) || hasTypeArgumentConstraints(component);
+        }
+        return false;
+    }
+
+    private static boolean isGetterName(String name) {
+        for (String prefix : GETTER_PREFIXES) {
+            if (name.length() > prefix.length() && name.startsWith(prefix) && Character.isUpperCase(name.charAt(prefix.length()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether Hibernate Validator would report its own default messages: in English, with no
+     * {@code ValidationMessages} bundle or {@code validation.xml} of the application overriding them.
+     */
+    private static boolean defaultMessages() {
+        ClassLoader loader = RecordValidator.class.getClassLoader();
+        String language = Locale.getDefault().getLanguage();
+        return (language.isEmpty() || language.equals("en"))
+                && loader.getResource("ValidationMessages.properties") == null
+                && loader.getResource("META-INF/validation.xml") == null;
+    }
+}
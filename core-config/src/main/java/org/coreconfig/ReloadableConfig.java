@@ -0,0 +1,326 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * A configuration snapshot that is kept up to date from its source files.
+ *
+ * The current snapshot is an immutable record published through a volatile field, so readers
+ * always see either the previous or the next complete graph, never a mix. A reload that fails to
+ * parse, bind or validate is logged and discarded; the last good snapshot stays in place.
+ *
+ * Reloads are incremental: the new tree is diffed against the previous one by path, and only
+ * sections whose subtree changed are rebound and revalidated. Unchanged sections keep their record
+ * instances. Consumers can subscribe per path or per section type and receive debounced batches
+ * of changes on virtual threads.
+ *
+ * Hot paths should hold a {@link ConfigHandle} for the section they use rather than calling
+ * {@link #current()}: a section handle's version only moves when that section actually changed.
+ *
+ * Create instances with {@link SimpleConfig#reloadable(Class)}.
+ */
+public final class ReloadableConfig<T> implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReloadableConfig.class);
+
+    /** Quiet period after the last file event before reloading, so a burst of writes reloads once. */
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    /** Window in which successive reloads are merged into one notification. */
+    private static final Duration NOTIFY_DEBOUNCE = Duration.ofMillis(100);
+
+    /**
+     * A registered listener; close it to stop receiving changes.
+     */
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Counters of reload activity since the config was created.
+     *
+     * @param attempts  Reloads run, whether triggered by a file change or by {@link #reload()}.
+     * @param published Reloads that published a new snapshot.
+     * @param failures  Reloads that failed to parse, bind or validate and were discarded.
+     */
+    public record ReloadMetrics(long attempts, long published, long failures) {}
+
+    private final Function<BootRecorder, Config> loader;
+    private final IncrementalBinder<T> binder;
+    private final ChangeNotifier<T> notifier = new ChangeNotifier<>(NOTIFY_DEBOUNCE);
+    private final WatchService watchService;
+    private final Map<Path, Set<String>> watchedNamesByDir;
+    private final Thread watcher;
+    /** A lock rather than synchronized: a reload waits for sources and sections loading on virtual threads. */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private final ConfigHandle<T> root;
+    private final List<SectionHandle<T, ?>> sections = new CopyOnWriteArrayList<>();
+
+    private final BootMetrics bootMetrics;
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * A handle derived from the aggregate, republished whenever the aggregate is.
+     */
+    private record SectionHandle<T, S>(Function<T, S> section, ConfigHandle<S> handle) {
+        void publishFrom(T aggregate) {
+            handle.publish(section.apply(aggregate));
+        }
+    }
+
+    private ReloadableConfig(IncrementalBinder<T> binder, BootMetrics bootMetrics, Function<BootRecorder, Config> loader,
+                             WatchService watchService, Map<Path, Set<String>> watchedNamesByDir) {
+        this.binder = binder;
+        this.bootMetrics = bootMetrics;
+        this.root = new ConfigHandle<>(binder.value());
+        this.loader = loader;
+        this.watchService = watchService;
+        this.watchedNamesByDir = watchedNamesByDir;
+        this.watcher = new Thread(this::watchLoop, "coreconfig-reload");
+        this.watcher.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the given files. Their parent directories are registered, because that is
+     * the only level {@link WatchService} supports and because Kubernetes swaps mounted secrets by
+     * replacing a {@code ..data} symlink in the directory rather than touching the file itself.
+     *
+     * @param initialRoot The already-loaded config tree; it is bound and validated before watching starts.
+     * @param recorder    Has timed loading the initial tree; binding it is added before its metrics are kept.
+     * @param options     How to bind the sections, initially and on every reload.
+     * @param loader      Re-parses and resolves the sources on each reload, timing the phases into the given recorder.
+     */
+    static <T> ReloadableConfig<T> start(Class<T> aggregateConfigType, Config initialRoot, Collection<Path> files,
+                                         BootOptions options, BootRecorder recorder, Function<BootRecorder, Config> loader) {
+        IncrementalBinder<T> binder;
+        try (BootRecorder.Phase phase = recorder.phase("bind")) {
+            binder = new IncrementalBinder<>(aggregateConfigType, initialRoot, options, recorder);
+        }
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            Map<Path, Set<String>> namesByDir = new HashMap<>();
+            for (Path file : files) {
+                Path dir = file.toAbsolutePath().getParent();
+                if (dir == null || !dir.toFile().isDirectory()) {
+                    log.warn("Not watching config source {}: parent directory does not exist.", file);
+                    continue;
+                }
+                if (!namesByDir.containsKey(dir)) {
+                    dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                }
+                namesByDir.computeIfAbsent(dir, d -> new HashSet<>()).add(file.getFileName().toString());
+            }
+            ReloadableConfig<T> config = new ReloadableConfig<>(binder, recorder.metrics(), loader, watchService, namesByDir);
+            config.watcher.start();
+            log.info("Watching {} config source(s) in {} directories for changes.", files.size(), namesByDir.size());
+            return config;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start watching config sources", e);
+        }
+    }
+
+    /**
+     * @return The most recently published, fully validated snapshot.
+     */
+    public T current() {
+        return root.get();
+    }
+
+    /**
+     * @return A handle on the whole aggregate; its version moves on every published reload.
+     */
+    public ConfigHandle<T> handle() {
+        return root;
+    }
+
+    /**
+     * Returns a handle on one section of the aggregate, e.g. {@code handle(AppConfig::db)}.
+     * Its version only moves when a reload produces a section that is not {@code equals} to the previous one.
+     * Each call creates a new handle; obtain it once and keep it.
+     */
+    public <S> ConfigHandle<S> handle(Function<T, S> section) {
+        reloadLock.lock();
+        try {
+            ConfigHandle<S> handle = new ConfigHandle<>(section.apply(root.get()));
+            sections.add(new SectionHandle<>(section, handle));
+            return handle;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Subscribes to changes at or under a config path, e.g. {@code "db"} or {@code "db.pool-size"}.
+     */
+    public Subscription subscribe(String path, Consumer<ConfigChange<T>> listener) {
+        Runnable remove = notifier.add(path, change -> change.affects(path), listener);
+        return remove::run;
+    }
+
+    /**
+     * Subscribes to a section type, e.g. {@code DbConfig.class}. The listener receives the new
+     * record whenever a section of that type is rebound to a different value. For a {@link Lazy}
+     * section of that type, the changed section is bound (and validated) to deliver it.
+     */
+    public <S> Subscription subscribe(Class<S> sectionType, Consumer<S> listener) {
+        Runnable remove = notifier.add(sectionType.getSimpleName(),
+                change -> change.changedSections().values().stream().anyMatch(section -> isSection(sectionType, section)),
+                change -> change.changedSections().values().stream()
+                        .filter(section -> isSection(sectionType, section))
+                        .map(section -> section instanceof Lazy<?> lazy ? lazy.get() : section)
+                        .map(sectionType::cast)
+                        .forEach(listener));
+        return remove::run;
+    }
+
+    private static boolean isSection(Class<?> sectionType, Object section) {
+        return section instanceof Lazy<?> lazy ? sectionType.isAssignableFrom(lazy.recordType()) : sectionType.isInstance(section);
+    }
+
+    /**
+     * @return Where the time of the initial load went, per phase and per section.
+     */
+    public BootMetrics bootMetrics() {
+        return bootMetrics;
+    }
+
+    /**
+     * @return Reload counters so far; each reload is also emitted as a JDK Flight Recorder event.
+     */
+    public ReloadMetrics metrics() {
+        return new ReloadMetrics(attempts.get(), published.get(), failures.get());
+    }
+
+    /**
+     * Re-parses the sources now, on the calling thread, and rebinds and revalidates the sections that changed.
+     *
+     * @return true if a new, different snapshot was published; false if nothing changed or the reload failed.
+     */
+    public boolean reload() {
+        reloadLock.lock();
+        try {
+            attempts.incrementAndGet();
+            BootEvents.Reload event = new BootEvents.Reload();
+            event.begin();
+            try {
+                return reloadAndPublish(event);
+            } finally {
+                event.commit();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private boolean reloadAndPublish(BootEvents.Reload event) {
+        T previous = root.get();
+        IncrementalBinder.Update<T> update;
+        try {
+            BootRecorder recorder = new BootRecorder();
+            Config reloaded = loader.apply(recorder);
+            update = binder.rebind(reloaded, recorder);
+            if (update != null) {
+                ConfigLoader.publishIndex(reloaded, recorder);
+            }
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            event.failed = true;
+            log.warn("Config reload failed; keeping the last good snapshot.", e);
+            return false;
+        }
+        if (update == null || !root.publish(update.value())) {
+            log.debug("Config sources changed but the bound configuration is identical; nothing to publish.");
+            return false;
+        }
+        T next = update.value();
+        sections.forEach(section -> section.publishFrom(next));
+        published.incrementAndGet();
+        event.published = true;
+        event.changedSections = String.join(",", update.changedSections().keySet());
+        log.info("Published reloaded configuration snapshot (version {}); changed sections: {}.",
+                root.version(), update.changedSections().keySet());
+        notifier.publish(new ConfigChange<>(previous, next, update.changedPaths(), update.changedSections()));
+        return true;
+    }
+
+    /**
+     * Stops watching. The last published snapshot remains readable.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Error closing config watch service.", e);
+        }
+        watcher.interrupt();
+        notifier.close();
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean relevant = drain(watchService.take());
+                // Keep draining until the sources have been quiet for the debounce window.
+                WatchKey next;
+                while ((next = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(next);
+                }
+                if (relevant) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed: stop watching.
+        }
+    }
+
+    /**
+     * Consumes the events on a key and reports whether any of them touched a watched source.
+     */
+    private boolean drain(WatchKey key) {
+        Path dir = (Path) key.watchable();
+        Set<String> names = watchedNamesByDir.getOrDefault(dir, Set.of());
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                relevant = true;
+                continue;
+            }
+            String name = event.context().toString();
+            // "..data" style entries are the atomic symlink swaps Kubernetes uses for mounted volumes.
+            relevant |= names.contains(name) || name.startsWith("..");
+        }
+        key.reset();
+        return relevant;
+    }
+}
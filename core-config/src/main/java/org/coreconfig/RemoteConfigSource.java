@@ -0,0 +1,402 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigParseOptions;
+import com.typesafe.config.ConfigSyntax;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ConfigSource} for overrides served over HTTP, e.g. from a central config store:
+ * <pre>{@code
+ * RemoteConfigSource remote = RemoteConfigSource.of(URI.create("http://config/orders.conf"), Path.of("/var/cache/orders/remote.conf"));
+ * SimpleConfig.reloadable(AppConfig.class, BootOptions.defaults()
+ *         .sources(ConfigPipeline.defaults().above("profile", remote)));
+ * }</pre>
+ *
+ * The body (HOCON or JSON) is kept in a local cache file, which is what the layer is read from. Boot therefore
+ * does not wait for the server if a cache file exists; only the very first start without one fetches once,
+ * bounded by the request timeout, and carries on without the layer if that fails.
+ *
+ * A daemon thread polls the server with {@code If-None-Match} and {@code If-Modified-Since}, so an unchanged
+ * poll is answered with an empty 304. A changed, parseable body replaces the cache file atomically; a
+ * {@link ReloadableConfig} watching that file then reloads. Failed polls keep the last good copy and back off
+ * exponentially up to {@link #maxBackoff(Duration)}, honouring {@code Retry-After}. Every delay is jittered so
+ * that many instances do not poll in step.
+ *
+ * Instances are configured with copy methods like {@link BootOptions}; configure them before first use.
+ */
+public final class RemoteConfigSource implements ConfigSource, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(RemoteConfigSource.class);
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final double JITTER = 0.1;
+
+    private static final ConfigParseOptions PARSE_OPTIONS = ConfigParseOptions.defaults().setSyntax(ConfigSyntax.CONF);
+
+    private final URI uri;
+    private final Path cacheFile;
+    private final Path metadataFile;
+    private final Duration pollInterval;
+    private final Duration requestTimeout;
+    private final Duration maxBackoff;
+
+    /** Guards starting and stopping; never held across a request, so loading never waits for the network. */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Guards the poll state below; held across a request. */
+    private final ReentrantLock pollLock = new ReentrantLock();
+    /** Released once loading can read the cache file: after the first fetch if there was none to boot from. */
+    private final CountDownLatch started = new CountDownLatch(1);
+    private HttpClient client;
+    private ScheduledExecutorService poller;
+    private boolean closed;
+
+    private String etag;
+    private String lastModified;
+    private int failures;
+    private Duration retryAfter;
+
+    private RemoteConfigSource(URI uri, Path cacheFile, Duration pollInterval, Duration requestTimeout, Duration maxBackoff) {
+        this.uri = uri;
+        this.cacheFile = cacheFile.toAbsolutePath();
+        this.metadataFile = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + ".meta");
+        this.pollInterval = pollInterval;
+        this.requestTimeout = requestTimeout;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * @param uri       The config document, served as HOCON or JSON.
+     * @param cacheFile Where the last good copy is kept; its directory is created if needed.
+     */
+    public static RemoteConfigSource of(URI uri, Path cacheFile) {
+        return new RemoteConfigSource(uri, cacheFile, DEFAULT_POLL_INTERVAL, DEFAULT_REQUEST_TIMEOUT, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * How often to ask the server for changes while it answers (default 30 seconds).
+     */
+    public RemoteConfigSource pollInterval(Duration interval) {
+        return new RemoteConfigSource(uri, cacheFile, interval, requestTimeout, maxBackoff);
+    }
+
+    /**
+     * How long to wait for each response (default 5 seconds).
+     */
+    public RemoteConfigSource requestTimeout(Duration timeout) {
+        return new RemoteConfigSource(uri, cacheFile, pollInterval, timeout, maxBackoff);
+    }
+
+    /**
+     * The longest delay between polls while the server fails (default 5 minutes).
+     */
+    public RemoteConfigSource maxBackoff(Duration backoff) {
+        return new RemoteConfigSource(uri, cacheFile, pollInterval, requestTimeout, backoff);
+    }
+
+    @Override
+    public String name() {
+        return "remote:" + uri;
+    }
+
+    /**
+     * Reads the cache file; on first use also starts polling (fetching once first if there is no cache file).
+     */
+    @Override
+    public Config load() {
+        start();
+        if (!Files.isRegularFile(cacheFile)) {
+            return ConfigFactory.empty();
+        }
+        return ConfigFactory.parseFile(cacheFile.toFile(), PARSE_OPTIONS);
+    }
+
+    @Override
+    public Object version() {
+        return ConfigSources.stamp(cacheFile);
+    }
+
+    /**
+     * @return The cache file, so that a reloadable config sees updates even if the file did not exist at boot.
+     */
+    @Override
+    public List<Path> watchedFiles() {
+        return List.of(cacheFile);
+    }
+
+    /**
+     * Stops polling. The cache file is kept for the next start.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            if (poller != null) {
+                poller.shutdownNow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        started.countDown();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigSource[" + name() + "]";
+    }
+
+    private void start() {
+        boolean fetch = false;
+        lock.lock();
+        try {
+            if (poller == null && !closed) {
+                client = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+                poller = Executors.newSingleThreadScheduledExecutor(task -> {
+                    Thread thread = new Thread(task, "coreconfig-remote");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                readMetadata();
+                if (Files.isRegularFile(cacheFile)) {
+                    // Boot from the last good copy; refresh it in the background right away.
+                    schedule(Duration.ZERO);
+                    started.countDown();
+                } else {
+                    fetch = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!fetch) {
+            awaitStarted();
+            return;
+        }
+        // No cache file yet: fetch once before loading. Outside lock, so close() never waits for the network.
+        try {
+            poll();
+        } finally {
+            started.countDown();
+        }
+        lock.lock();
+        try {
+            if (!closed) {
+                schedule(nextDelay());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a concurrent first fetch, so that every load after start sees its result.
+     */
+    private void awaitStarted() {
+        try {
+            started.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void schedule(Duration delay) {
+        poller.schedule(() -> {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.warn("Unexpected error polling remote config {}.", uri, e);
+            }
+            lock.lock();
+            try {
+                if (!closed) {
+                    schedule(nextDelay());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Asks the server once whether the document changed, and replaces the cache file if it did.
+     *
+     * @return true if the cache file was replaced.
+     */
+    boolean poll() {
+        pollLock.lock();
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(requestTimeout)
+                    .header("Accept", "application/hocon, application/json;q=0.9, */*;q=0.1")
+                    .GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                request.header("If-Modified-Since", lastModified);
+            }
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            return switch (response.statusCode()) {
+                case 200 -> update(response);
+                case 304 -> {
+                    log.debug("Remote config {} is unchanged.", uri);
+                    succeeded();
+                    yield false;
+                }
+                default -> {
+                    failed("HTTP " + response.statusCode(), retryAfter(response));
+                    yield false;
+                }
+            };
+        } catch (IOException | ConfigException e) {
+            failed(e.toString(), null);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * @return The delay before the next poll: the poll interval, doubled for each consecutive failure up to the
+     *         maximum backoff (or the server's {@code Retry-After} if longer), with jitter.
+     */
+    Duration nextDelay() {
+        pollLock.lock();
+        try {
+            Duration delay = pollInterval;
+            for (int i = 0; i < failures && delay.compareTo(maxBackoff) < 0; i++) {
+                delay = delay.multipliedBy(2);
+            }
+            if (failures > 0 && delay.compareTo(maxBackoff) > 0) {
+                delay = maxBackoff;
+            }
+            if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+                delay = retryAfter;
+            }
+            double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+            return Duration.ofMillis((long) (delay.toMillis() * factor));
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private boolean update(HttpResponse<byte[]> response) throws IOException {
+        String body = new String(response.body(), StandardCharsets.UTF_8);
+        // Reject a body that does not parse before it replaces the last good copy.
+        Config parsed = ConfigFactory.parseString(body, PARSE_OPTIONS.setOriginDescription(uri.toString()));
+        String newEtag = response.headers().firstValue("ETag").orElse(null);
+        String newLastModified = response.headers().firstValue("Last-Modified").orElse(null);
+
+        writeAtomically(cacheFile, response.body());
+        etag = newEtag;
+        lastModified = newLastModified;
+        writeMetadata();
+        succeeded();
+        log.info("Updated remote config {} ({} root key(s), {} bytes, ETag {}).", uri, parsed.root().size(), response.body().length, etag);
+        return true;
+    }
+
+    private void succeeded() {
+        failures = 0;
+        retryAfter = null;
+    }
+
+    private void failed(String problem, Duration retryAfter) {
+        failures++;
+        this.retryAfter = retryAfter;
+        log.warn("Failed to poll remote config {} ({} consecutive failure(s)): {}; {}.", uri, failures, problem,
+                Files.isRegularFile(cacheFile) ? "keeping the last good copy" : "no cached copy, layer is empty");
+    }
+
+    private static Duration retryAfter(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .filter(value -> value.chars().allMatch(Character::isDigit) && !value.isEmpty())
+                .map(value -> Duration.ofSeconds(Long.parseLong(value)))
+                .orElse(null);
+    }
+
+    // ---- Cache files ----
+
+    private void readMetadata() {
+        if (!Files.isRegularFile(metadataFile) || !Files.isRegularFile(cacheFile)) {
+            return;
+        }
+        Properties metadata = new Properties();
+        try (InputStream in = Files.newInputStream(metadataFile)) {
+            metadata.load(in);
+        } catch (IOException e) {
+            log.warn("Cannot read {}; the next poll fetches the full document.", metadataFile, e);
+            return;
+        }
+        if (uri.toString().equals(metadata.getProperty("uri"))) {
+            etag = metadata.getProperty("etag");
+            lastModified = metadata.getProperty("last-modified");
+        }
+    }
+
+    private void writeMetadata() throws IOException {
+        Properties metadata = new Properties();
+        metadata.setProperty("uri", uri.toString());
+        if (etag != null) {
+            metadata.setProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            metadata.setProperty("last-modified", lastModified);
+        }
+        Path temp = Files.createTempFile(metadataFile.getParent(), metadataFile.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            metadata.store(out, "Validators for " + cacheFile.getFileName());
+        }
+        move(temp, metadataFile);
+    }
+
+    private static void writeAtomically(Path file, byte[] content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        try {
+            Files.write(temp, content);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        move(temp, file);
+    }
+
+    private static void move(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+}
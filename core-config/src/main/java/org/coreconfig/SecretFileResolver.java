@@ -0,0 +1,220 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigOriginFactory;
+import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reads the secrets referenced by {@code *_FILE} environment variables, e.g. {@code DB_PASSWORD_FILE=/etc/secrets/db}
+ * provides {@code DB_PASSWORD}.
+ *
+ * All files are read concurrently on virtual threads, each bounded by a timeout, and decoded as UTF-8.
+ * Results are cached per file: a file whose resolved target, size and modification time are unchanged is
+ * not read again, and one that was rewritten with the same content (same SHA-256) keeps its cached value.
+ * A stamp is only trusted if the file was last modified at least {@link ConfigSources#SETTLE_TIME} before it
+ * was read, since a same-size rewrite within the file system's time granularity would keep the stamp.
+ * Kubernetes rotates mounted secrets by swapping a {@code ..data} symlink, which changes the resolved
+ * target, so a rotation is always noticed. Each resolution reports which keys actually changed.
+ *
+ * A file that cannot be read fails the resolution, unless an earlier value is cached; then the earlier
+ * value is kept (a rotation may be in progress) and a warning is logged.
+ */
+final class SecretFileResolver {
+    private static final Logger log = LoggerFactory.getLogger(SecretFileResolver.class);
+
+    private static final String SUFFIX = "_FILE";
+
+    /** Per-file read timeout, overridable with {@code -Dcoreconfig.secretTimeoutMillis}. */
+    static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(Long.getLong("coreconfig.secretTimeoutMillis", 5_000));
+
+    /**
+     * The outcome of one resolution.
+     *
+     * @param config      The secrets as a flat config, keyed by name (e.g. {@code DB_PASSWORD}); each value's
+     *                    origin is its file.
+     * @param changedKeys Keys whose value differs from the previous resolution (all keys on the first one).
+     */
+    record Resolution(Config config, Set<String> changedKeys) {}
+
+    /**
+     * What is known about a file without reading it. Equal stamps mean the content has not changed.
+     */
+    private record Stamp(Path target, Object fileKey, FileTime modified, long size) {
+        static Stamp of(Path file) throws IOException {
+            Path target = file.toRealPath();
+            BasicFileAttributes attributes = Files.readAttributes(target, BasicFileAttributes.class);
+            return new Stamp(target, attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+        }
+
+        /**
+         * @return True if the file was last modified long enough ago that a rewrite would change the stamp.
+         */
+        boolean settled() {
+            return modified.toInstant().isBefore(Instant.now().minus(ConfigSources.SETTLE_TIME));
+        }
+    }
+
+    /**
+     * @param trusted Whether the stamp had settled when the file was read, so that an equal stamp means equal content.
+     */
+    private record Entry(Stamp stamp, boolean trusted, byte[] hash, String value) {}
+
+    private final Map<String, Path> references;
+    private final Duration timeout;
+    private final Map<String, Entry> cache = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * @param references Secret name to file, e.g. from {@link #fromEnvironment()}.
+     */
+    SecretFileResolver(Map<String, Path> references, Duration timeout) {
+        this.references = Collections.unmodifiableMap(new TreeMap<>(references));
+        this.timeout = timeout;
+    }
+
+    /**
+     * Scans the environment once for variables ending in {@code _FILE}.
+     *
+     * @return Secret name (the variable without the suffix) to the absolute file path.
+     */
+    static Map<String, Path> fromEnvironment() {
+        Map<String, Path> references = new TreeMap<>();
+        System.getenv().forEach((name, value) -> {
+            if (name.endsWith(SUFFIX) && name.length() > SUFFIX.length()) {
+                references.put(name.substring(0, name.length() - SUFFIX.length()), Paths.get(value).toAbsolutePath());
+            }
+        });
+        return references;
+    }
+
+    /**
+     * @return Secret name to file, as given at construction.
+     */
+    Map<String, Path> references() {
+        return references;
+    }
+
+    /**
+     * Reads every referenced file that changed since the last call and returns all current values.
+     *
+     * @throws IllegalStateException if a file without a cached value cannot be read in time; every such file is listed.
+     */
+    Resolution resolve() {
+        // A lock rather than synchronized: callers may be virtual threads, which must not pin their carrier
+        // while waiting for the reads below.
+        lock.lock();
+        try {
+            if (references.isEmpty()) {
+                return new Resolution(ConfigFactory.empty(), Set.of());
+            }
+            Map<String, Future<Entry>> reads = new TreeMap<>();
+            // Not closed with try-with-resources: close() waits for reads that are stuck past their timeout.
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                references.forEach((key, file) -> {
+                    Entry cached = cache.get(key);
+                    reads.put(key, executor.submit(() -> read(file, cached)));
+                });
+
+                long deadline = System.nanoTime() + timeout.toNanos();
+                Map<String, ConfigValue> values = new TreeMap<>();
+                Set<String> changed = new TreeSet<>();
+                List<String> failures = new ArrayList<>();
+                for (Map.Entry<String, Future<Entry>> read : reads.entrySet()) {
+                    String key = read.getKey();
+                    Entry previous = cache.get(key);
+                    Entry next;
+                    try {
+                        next = read.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (TimeoutException | ExecutionException e) {
+                        read.getValue().cancel(true);
+                        Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                        String problem = key + ": " + references.get(key) + ": "
+                                + (e instanceof TimeoutException ? "timed out after " + timeout.toMillis() + " ms" : cause.toString());
+                        if (previous == null) {
+                            failures.add(problem);
+                            continue;
+                        }
+                        log.warn("Failed to re-read secret file {}; keeping the previous value.", problem);
+                        next = previous;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while reading secret files", e);
+                    }
+                    if (previous == null || !previous.value().equals(next.value())) {
+                        changed.add(key);
+                    }
+                    cache.put(key, next);
+                    values.put(key, ConfigValueFactory.fromAnyRef(next.value())
+                            .withOrigin(ConfigOriginFactory.newFile(references.get(key).toString())));
+                }
+                if (!failures.isEmpty()) {
+                    throw new IllegalStateException("Failed to read secret files: " + String.join("; ", failures));
+                }
+                return new Resolution(ConfigFactory.parseMap(values, "secret files"), changed);
+            } finally {
+                executor.shutdownNow();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads a file unless its stamp matches a trusted cached one. Runs on a virtual thread.
+     */
+    private static Entry read(Path file, Entry cached) throws IOException {
+        Stamp stamp = Stamp.of(file);
+        if (cached != null && cached.trusted() && cached.stamp().equals(stamp)) {
+            return cached;
+        }
+        // Checked before reading: a rewrite after this point changes the stamp.
+        boolean trusted = stamp.settled();
+        byte[] content = Files.readAllBytes(stamp.target());
+        byte[] hash = sha256(content);
+        if (cached != null && Arrays.equals(cached.hash(), hash)) {
+            return new Entry(stamp, trusted, hash, cached.value());
+        }
+        return new Entry(stamp, trusted, hash, new String(content, StandardCharsets.UTF_8).trim());
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Binds and validates the top-level sections of an aggregate record, either one after another or
+ * concurrently. Every section is attempted even if an earlier one fails, so all problems are
+ * reported together in a single {@link ConfigValidationException}. Each section is timed.
+ */
+final class SectionBinder {
+    private static final Logger log = LoggerFactory.getLogger(SectionBinder.class);
+
+    private SectionBinder() {}
+
+    /**
+     * @param recorder Receives a timing (and a Flight Recorder event) per section.
+     * @return The bound section records, in canonical-constructor order of the aggregate.
+     * @throws ConfigValidationException listing the problems of every section that failed.
+     */
+    static Object[] bindAll(ConfigMapper mapper, Config root, ConfigBinder<?> binder, BootOptions options,
+                            BootRecorder recorder) {
+        List<String> names = binder.componentNames();
+        List<Class<?>> types = binder.componentTypes();
+        List<Class<?>> elementTypes = binder.componentElementTypes();
+        int count = names.size();
+        Object[] values = new Object[count];
+        RuntimeException[] failures = new RuntimeException[count];
+        long[] nanos = new long[count];
+
+        Runnable[] tasks = new Runnable[count];
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks[i] = () -> {
+                BootEvents.Section event = recorder.section(names.get(index), types.get(index));
+                long start = System.nanoTime();
+                try {
+                    values[index] = bindSection(mapper, root, names.get(index), types.get(index),
+                            elementTypes.get(index), options.isStrict());
+                    if (event.isEnabled() && root.hasPath(names.get(index))) {
+                        event.keys = BootRecorder.countLeaves(root.getValue(names.get(index)));
+                    }
+                } catch (RuntimeException e) {
+                    failures[index] = e;
+                } finally {
+                    nanos[index] = System.nanoTime() - start;
+                    recorder.sectionDone(event, nanos[index], failures[index] == null);
+                }
+            };
+        }
+
+        long start = System.nanoTime();
+        boolean parallel = options.isParallel() && count > 1;
+        if (parallel) {
+            runConcurrently(tasks, options.executor());
+        } else {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        }
+        logTimings(names, nanos, System.nanoTime() - start, parallel);
+
+        ConfigValidationException failure = aggregate(names, failures);
+        if (failure != null) {
+            throw failure;
+        }
+        return values;
+    }
+
+    /**
+     * Binds one section. A {@link Lazy} section is only wrapped, unless {@code eager} is set; then it is
+     * bound and validated now, so that its failures are reported with the others.
+     */
+    static Object bindSection(ConfigMapper mapper, Config root, String name, Class<?> type, Class<?> elementType,
+                              boolean eager) {
+        if (type == Lazy.class && elementType != null) {
+            return eager ? bindNow(mapper, root, name, elementType) : Lazy.section(root, name, elementType);
+        }
+        // Convention: record component name == config path
+        return mapper.map(root, name, type);
+    }
+
+    private static <S> Lazy<S> bindNow(ConfigMapper mapper, Config root, String name, Class<S> recordType) {
+        return Lazy.bound(root, name, recordType, mapper.map(root, name, recordType));
+    }
+
+    /**
+     * Runs the tasks on the executor, or on virtual threads if it is null, and waits for all of them.
+     */
+    static void runConcurrently(Runnable[] tasks, Executor executor) {
+        if (executor != null) {
+            CompletableFuture.allOf(submitAll(tasks, executor)).join();
+            return;
+        }
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(submitAll(tasks, virtualThreads)).join();
+        }
+    }
+
+    private static CompletableFuture<?>[] submitAll(Runnable[] tasks, Executor executor) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            futures[i] = CompletableFuture.runAsync(tasks[i], executor);
+        }
+        return futures;
+    }
+
+    /**
+     * Folds per-section failures into one exception. Constraint violations are prefixed with the
+     * section path (e.g. "db.poolSize must be positive"); mapping errors keep their root cause message.
+     *
+     * @return The aggregated exception, or null if every section succeeded.
+     */
+    static ConfigValidationException aggregate(List<String> names, RuntimeException[] failures) {
+        List<String> problems = new ArrayList<>();
+        List<RuntimeException> causes = new ArrayList<>();
+        for (int i = 0; i < failures.length; i++) {
+            RuntimeException failure = failures[i];
+            if (failure == null) {
+                continue;
+            }
+            String section = names.get(i);
+            causes.add(failure);
+            if (failure instanceof ConfigValidationException validation) {
+                validation.problems().forEach(problem -> problems.add(section + "." + problem));
+            } else {
+                problems.add(section + ": " + describe(failure));
+            }
+        }
+        if (problems.isEmpty()) {
+            return null;
+        }
+        ConfigValidationException aggregated = new ConfigValidationException(problems);
+        causes.forEach(aggregated::addSuppressed);
+        return aggregated;
+    }
+
+    private static String describe(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root == failure ? failure.getMessage() : failure.getMessage() + ": " + root.getMessage();
+    }
+
+    private static void logTimings(List<String> names, long[] nanos, long totalNanos, boolean parallel) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String perSection = IntStream.range(0, names.size())
+                .mapToObj(i -> names.get(i) + "=" + millis(nanos[i]))
+                .collect(Collectors.joining(", "));
+        log.info("Bound {} config section(s) in {} ({}): {}",
+                names.size(), millis(totalNanos), parallel ? "parallel" : "sequential", perSection);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+}
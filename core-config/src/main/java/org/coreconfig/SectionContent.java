@@ -0,0 +1,168 @@
+package org.coreconfig;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Equality of bound sections by content. A record's own {@code equals} compares array components
+ * ({@code int[]}, {@code long[]}, {@code double[]}, including those read from an {@link ExternalSection}) by
+ * reference, so a section bound again from the same values would never equal the previous one. Here arrays
+ * are compared by their elements, through nested records, lists and map values; anything else uses its own
+ * {@code equals}.
+ */
+final class SectionContent {
+
+    /** The component accessors of a record type, or null if they cannot be read (plain {@code equals} is used). */
+    private static final ClassValue<MethodHandle[]> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            MethodHandle[] accessors = new MethodHandle[components.length];
+            try {
+                for (int i = 0; i < components.length; i++) {
+                    Method accessor = components[i].getAccessor();
+                    accessor.trySetAccessible();
+                    accessors[i] = MethodHandles.lookup().unreflect(accessor)
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                }
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+            return accessors;
+        }
+    };
+
+    private SectionContent() {}
+
+    /**
+     * A section as a hash key with content equality, e.g. for interning.
+     */
+    record Key(Object section, int hash) {
+        Key(Object section) {
+            this(section, SectionContent.hash(section));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && hash == key.hash && equal(section, key.section);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    static boolean equal(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof int[] x) {
+            return b instanceof int[] y && Arrays.equals(x, y);
+        }
+        if (a instanceof long[] x) {
+            return b instanceof long[] y && Arrays.equals(x, y);
+        }
+        if (a instanceof double[] x) {
+            return b instanceof double[] y && Arrays.equals(x, y);
+        }
+        if (a instanceof Record && a.getClass() == b.getClass()) {
+            MethodHandle[] accessors = ACCESSORS.get(a.getClass());
+            if (accessors == null) {
+                return a.equals(b);
+            }
+            for (MethodHandle accessor : accessors) {
+                if (!equal(read(accessor, a), read(accessor, b))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof List<?> x && b instanceof List<?> y) {
+            if (x.size() != y.size()) {
+                return false;
+            }
+            Iterator<?> other = y.iterator();
+            for (Object element : x) {
+                if (!equal(element, other.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof Map<?, ?> x && b instanceof Map<?, ?> y) {
+            if (x.size() != y.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : x.entrySet()) {
+                if (!y.containsKey(entry.getKey()) || !equal(entry.getValue(), y.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * @return A hash consistent with {@link #equal}.
+     */
+    static int hash(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof int[] x) {
+            return Arrays.hashCode(x);
+        }
+        if (value instanceof long[] x) {
+            return Arrays.hashCode(x);
+        }
+        if (value instanceof double[] x) {
+            return Arrays.hashCode(x);
+        }
+        if (value instanceof Record) {
+            MethodHandle[] accessors = ACCESSORS.get(value.getClass());
+            if (accessors == null) {
+                return value.hashCode();
+            }
+            int hash = value.getClass().hashCode();
+            for (MethodHandle accessor : accessors) {
+                hash = 31 * hash + hash(read(accessor, value));
+            }
+            return hash;
+        }
+        if (value instanceof List<?> list) {
+            int hash = 1;
+            for (Object element : list) {
+                hash = 31 * hash + hash(element);
+            }
+            return hash;
+        }
+        if (value instanceof Map<?, ?> map) {
+            int hash = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                hash += SectionContent.hash(entry.getKey()) ^ hash(entry.getValue());
+            }
+            return hash;
+        }
+        return value.hashCode();
+    }
+
+    private static Object read(MethodHandle accessor, Object record) {
+        try {
+            return (Object) accessor.invokeExact(record);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot read a component of " + record.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A simple, fluent, and production-ready entry point for loading configuration.
+ *
+ * This utility loads, maps, and validates the entire configuration graph in a single,
+ * static method call at application startup.
+ */
+public final class SimpleConfig {
+
+    private static final ConfigMapper MAPPER = new ConfigMapper();
+
+    private SimpleConfig() {}
+
+    /**
+     * Boots the entire configuration system once.
+     *
+     * It loads the root config, accounting for environment profiles (e.g., -Dconfig.profile=prod),
+     * then maps the contents to the structure of the provided aggregate record class.
+     *
+     * @param aggregateConfigType The main record class that defines the config structure (e.g., AppConfig.class).
+     * @return A fully populated and validated instance of the aggregate config record.
+     * @throws RuntimeException if loading, mapping, or validation fails.
+     */
+    public static <T> T boot(Class<T> aggregateConfigType) {
+        return boot(aggregateConfigType, BootOptions.defaults());
+    }
+
+    /**
+     * Boots the entire configuration system once, with optional settings such as parallel section binding.
+     *
+     * Every section is bound and validated even if another one fails; all problems are reported
+     * together in one {@link ConfigValidationException} (the cause of the thrown exception).
+     *
+     * @param aggregateConfigType The main record class that defines the config structure (e.g., AppConfig.class).
+     * @param options How to bind, e.g. {@code BootOptions.defaults().parallel()}.
+     * @return A fully populated and validated instance of the aggregate config record.
+     * @throws RuntimeException if loading, mapping, or validation fails.
+     */
+    public static <T> T boot(Class<T> aggregateConfigType, BootOptions options) {
+        return boot(aggregateConfigType, options, new BootRecorder()).config();
+    }
+
+    /**
+     * The booted aggregate together with the timings of the boot.
+     */
+    public record Booted<T>(T config, BootMetrics metrics) {}
+
+    /**
+     * Boots like {@link #boot(Class, BootOptions)} and also returns where the time went, per phase and per section,
+     * e.g. to export as startup metrics. The same timings are emitted as JDK Flight Recorder events.
+     *
+     * @param aggregateConfigType The main record class that defines the config structure (e.g., AppConfig.class).
+     * @param options How to bind, e.g. {@code BootOptions.defaults().parallel()}.
+     * @return The validated aggregate and its boot metrics.
+     * @throws RuntimeException if loading, mapping, or validation fails.
+     */
+    public static <T> Booted<T> bootWithMetrics(Class<T> aggregateConfigType, BootOptions options) {
+        return boot(aggregateConfigType, options, new BootRecorder(true));
+    }
+
+    private static <T> Booted<T> boot(Class<T> aggregateConfigType, BootOptions options, BootRecorder recorder) {
+        CdsArchive.checkOnce(); // Opt-in via -Dcoreconfig.cds.archive; only logs.
+        try {
+            // 1. Load the raw configuration, applying any environment profile.
+            Config rootConfig = options.snapshotCache() == null
+                    ? loadWithProfile(options.sources(), recorder)
+                    : loadFromSnapshot(options.snapshotCache(), options.sources(), recorder);
+            ConfigLoader.publishIndex(rootConfig, recorder);
+            logEffectiveConfig(rootConfig, recorder); // Always log for debuggability.
+
+            // 2 & 3. Map, validate and assemble the aggregate record.
+            T config = bind(rootConfig, aggregateConfigType, options, recorder);
+            return new Booted<>(config, recorder.metrics());
+
+        } catch (Exception e) {
+            // Wrap any exception in a clear, top-level error.
+            System.err.println("FATAL: Application configuration failed to boot.");
+            throw new RuntimeException("Could not initialize configuration for " + aggregateConfigType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Boots the configuration and keeps it up to date while the process runs.
+     *
+     * The profile files, any included files, and secret files referenced by {@code *_FILE} env vars
+     * are watched. On change, the configuration is re-parsed in the background, and the sections
+     * whose values changed are re-bound and re-validated; a new snapshot is published only if all
+     * of that succeeds.
+     *
+     * @param aggregateConfigType The main record class that defines the config structure (e.g., AppConfig.class).
+     * @return A running handle; close it to stop watching.
+     * @throws RuntimeException if the initial load, mapping, or validation fails.
+     */
+    public static <T> ReloadableConfig<T> reloadable(Class<T> aggregateConfigType) {
+        return reloadable(aggregateConfigType, BootOptions.defaults());
+    }
+
+    /**
+     * As {@link #reloadable(Class)}, loading from the sources in the options, e.g. with a {@link RemoteConfigSource}
+     * layer whose cache file is then watched as well. Sections are bound as the options say, on boot and on every
+     * reload: {@link BootOptions#strict()} binds {@link Lazy} sections eagerly, {@link BootOptions#parallel()}
+     * rebinds changed sections concurrently.
+     *
+     * @throws IllegalArgumentException if the options set a {@link BootOptions#snapshotCache(Path) snapshot cache},
+     *                                  which a reloadable config cannot use: it re-parses its sources on every change.
+     */
+    public static <T> ReloadableConfig<T> reloadable(Class<T> aggregateConfigType, BootOptions options) {
+        if (options.snapshotCache() != null) {
+            throw new IllegalArgumentException("A reloadable config cannot use a snapshot cache; remove snapshotCache("
+                    + options.snapshotCache() + ") from its options");
+        }
+        try {
+            BootRecorder recorder = new BootRecorder(true); // Kept as bootMetrics().
+            ConfigPipeline pipeline = options.sources();
+            Config rootConfig = loadWithProfile(pipeline, recorder);
+            ConfigLoader.publishIndex(rootConfig, recorder);
+            logEffectiveConfig(rootConfig, recorder);
+
+            Set<Path> files = sourceFiles(rootConfig);
+            files.addAll(pipeline.watchedFiles());
+            return ReloadableConfig.start(aggregateConfigType, rootConfig, files, options, recorder, reloadRecorder -> {
+                // Typesafe Config caches parsed application resources; drop them so changes are seen.
+                ConfigFactory.invalidateCaches();
+                return loadWithProfile(pipeline, reloadRecorder);
+            });
+        } catch (Exception e) {
+            System.err.println("FATAL: Application configuration failed to boot.");
+            throw new RuntimeException("Could not initialize configuration for " + aggregateConfigType.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Maps each section of the root config through the aggregate's binder
+     * (generated, or reflective as a fallback) and assembles the validated aggregate.
+     */
+    static <T> T bind(Config rootConfig, Class<T> aggregateConfigType, BootOptions options) {
+        return bind(rootConfig, aggregateConfigType, options, new BootRecorder());
+    }
+
+    private static <T> T bind(Config rootConfig, Class<T> aggregateConfigType, BootOptions options, BootRecorder recorder) {
+        ConfigBinder<T> binder = ConfigMapper.binder(aggregateConfigType);
+        try (BootRecorder.Phase phase = recorder.phase("validator-init")) {
+            RecordValidator.prepare(binder);
+        }
+        Object[] sections;
+        try (BootRecorder.Phase phase = recorder.phase("bind")) {
+            sections = SectionBinder.bindAll(MAPPER, rootConfig, binder, options, recorder);
+            phase.keys(sections.length);
+        }
+        return binder.construct(sections);
+    }
+
+    private static void logEffectiveConfig(Config rootConfig, BootRecorder recorder) {
+        try (BootRecorder.Phase phase = recorder.phase("render")) {
+            phase.bytes(ConfigLoader.logRendered(rootConfig, ConfigRenderer.defaults().maxChars(ConfigLoader.LOG_MAX_CHARS)));
+        }
+    }
+
+    private static Config loadFromSnapshot(Path snapshot, ConfigPipeline sources, BootRecorder recorder) {
+        String profile = activeProfile();
+        if (profile != null) {
+            System.out.println("INFO: Activating configuration profile: " + profile);
+        }
+        try (BootRecorder.Phase phase = recorder.phase("snapshot")) {
+            return ConfigSnapshotCache.load(snapshot, profile, sources, recorder);
+        }
+    }
+
+    /**
+     * Collects every local file the loaded config came from (including {@code include}d files),
+     * plus the expected profile files and secret files, so they can be watched for changes.
+     */
+    static Set<Path> sourceFiles(Config rootConfig) {
+        Set<Path> files = new LinkedHashSet<>();
+        String configFile = System.getProperty("config.file");
+        if (configFile != null) {
+            files.add(Paths.get(configFile).toAbsolutePath());
+        }
+        addClasspathFile(files, "application.conf");
+        String profile = activeProfile();
+        if (profile != null) {
+            addClasspathFile(files, "application-" + profile + ".conf");
+        }
+        ConfigSources.originUrls(rootConfig).values().forEach(url -> addIfFile(files, url));
+        files.addAll(ConfigLoader.secretFiles());
+        return files;
+    }
+
+    private static void addClasspathFile(Set<Path> files, String resource) {
+        URL url = SimpleConfig.class.getClassLoader().getResource(resource);
+        addIfFile(files, url);
+    }
+
+    private static void addIfFile(Set<Path> files, URL url) {
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                files.add(Paths.get(url.toURI()));
+            } catch (URISyntaxException ignored) {
+                // Not a usable file path; nothing to watch.
+            }
+        }
+    }
+
+    static String activeProfile() {
+        String profile = System.getProperty("config.profile", System.getenv("CONFIG_PROFILE"));
+        return profile == null || profile.isBlank() ? null : profile;
+    }
+
+    /**
+     * Internal helper to load configuration based on an optional profile. The profile only adds a layer
+     * (see {@link ConfigSource#profile()}); secrets and system properties apply in every profile.
+     */
+    private static Config loadWithProfile(ConfigPipeline sources, BootRecorder recorder) {
+        // Check for a profile in system properties or environment variables.
+        String profile = activeProfile();
+        if (profile != null) {
+            System.out.println("INFO: Activating configuration profile: " + profile);
+        }
+        return sources.load(recorder);
+    }
+}
@@ -0,0 +1,36 @@
+package org.coreconfig;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CdsArchive Tests")
+class CdsArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should accept an archive stamped by this JVM and report what changed otherwise")
+    void staleReason_shouldCompareStampWithRunningJvm() throws IOException {
+        Path archive = Files.writeString(dir.resolve("app.jsa"), "archive");
+        Path stamp = dir.resolve("app.jsa.stamp");
+
+        assertThat(CdsArchive.staleReason(dir.resolve("missing.jsa"))).isEqualTo("no archive");
+        assertThat(CdsArchive.staleReason(archive)).isEqualTo("no stamp app.jsa.stamp");
+
+        CdsArchive.writeStamp(archive, List.of(AppConfig.class.getName()));
+        assertThat(CdsArchive.staleReason(archive)).isNull();
+        assertThat(Files.readString(stamp)).contains("aggregates=org.coreconfig.AppConfig");
+
+        Files.writeString(stamp, Files.readString(stamp).replaceAll("(?m)^java\\.vm\\.version=.*$", "java.vm.version=17"));
+        assertThat(CdsArchive.staleReason(archive)).isEqualTo("java.vm.version changed since training");
+    }
+}
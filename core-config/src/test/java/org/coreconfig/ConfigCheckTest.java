@@ -0,0 +1,95 @@
+package org.coreconfig;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigCheck Tests")
+class ConfigCheckTest {
+
+    private static final String APPLICATION = """
+            http { host = "0.0.0.0", port = 8080, idle-timeout = 30s }
+            db {
+              url = "jdbc:postgresql://db:5432/app"
+              user = "local"
+              password = ${?DB_PASSWORD}
+              pool-size = 16
+              timeout = 2s
+            }
+            """;
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("Should check every service and profile and parse shared includes once")
+    void checkAll_shouldCheckEveryCombination() throws IOException {
+        service("trading-engine", Map.of(
+                "application-dev.conf", "include \"db-dev.conf\"",
+                "application-prod.conf", "include \"db-prod.conf\"\nhttp.port = 99999"));
+        service("services/reporting", Map.of(
+                "application-dev.conf", "include \"db-dev.conf\"",
+                "application-qa.conf", "db.user = ${QA_DB_USER}\ndb.pool-size = 0"));
+        service("trading-engine/target/classes", Map.of());
+
+        ConfigCheck check = new ConfigCheck(root, "org.coreconfig.AppConfig", Map.of(), null, Map.of("QA_DB_USER", "ci"));
+        List<ConfigCheck.Result> results = check.checkAll();
+
+        assertThat(results).extracting(result -> result.target().service() + "/" + result.target().profile())
+                .containsExactly("services/reporting/default", "services/reporting/dev", "services/reporting/qa",
+                        "trading-engine/default", "trading-engine/dev", "trading-engine/prod");
+        assertThat(results).filteredOn(result -> !result.ok())
+                .extracting(result -> result.target().profile(), ConfigCheck.Result::problems)
+                .containsExactly(
+                        tuple("qa", List.of("db.poolSize must be positive")),
+                        tuple("prod", List.of("http.port must be less than or equal to 65535")));
+        assertThat(results.get(0).stubbed()).containsExactly("DB_PASSWORD");
+        assertThat(results.get(1).stubbed()).isEmpty();
+        // Two application files, four profile files, and db-dev.conf and db-prod.conf once each.
+        assertThat(check.parses()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should write a machine-readable report and fail the run if any combination fails")
+    void run_shouldWriteReport() throws IOException {
+        service("orders", Map.of("application-qa.conf", "db.user = ${QA_DB_USER}"));
+        Path report = root.resolve("report.json");
+
+        int failing = ConfigCheck.run(new String[] {"--root", root.toString(), "--report", report.toString()}, System.out);
+        String json = Files.readString(report);
+
+        assertThat(failing).isEqualTo(1);
+        assertThat(json)
+                .contains("\"combinations\": 2", "\"failed\": 1")
+                .contains("{\"service\": \"orders\", \"profile\": \"default\", \"aggregate\": \"org.coreconfig.AppConfig\", \"ok\": true")
+                .contains("\"profile\": \"qa\"")
+                .contains("Could not resolve substitution to a value: ${QA_DB_USER}");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int passing = ConfigCheck.run(new String[] {"--root", root.toString(), "--env", "QA_DB_USER=ci", "--profiles", "qa"},
+                new PrintStream(out, true, StandardCharsets.UTF_8));
+
+        assertThat(passing).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"combinations\": 1", "\"failed\": 0");
+        assertThat(ConfigCheck.run(new String[] {"--bogus", "x"}, System.out)).isEqualTo(2);
+    }
+
+    private void service(String name, Map<String, String> profiles) throws IOException {
+        Path resources = Files.createDirectories(root.resolve(name).resolve("src/main/resources"));
+        Files.writeString(resources.resolve("application.conf"), APPLICATION);
+        for (Map.Entry<String, String> profile : profiles.entrySet()) {
+            Files.writeString(resources.resolve(profile.getKey()), profile.getValue());
+        }
+    }
+}
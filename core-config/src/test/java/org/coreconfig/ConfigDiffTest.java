@@ -0,0 +1,59 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigDiff Tests")
+class ConfigDiffTest {
+
+    private static final String BASE = """
+            http { host = "localhost", port = 8080, idle-timeout = 10s }
+            db { url = "jdbc:h2:mem:", user = "a", password = "b", pool-size = 4, timeout = 1s }
+            """;
+
+    @Test
+    @DisplayName("Should report no paths for identical trees")
+    void identicalTrees_shouldHaveNoChanges() {
+        assertThat(ConfigDiff.changedPaths(parse(BASE).root(), parse(BASE).root())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report the deepest changed leaf")
+    void changedLeaf_shouldBeReportedByFullPath() {
+        Config after = parse(BASE).withValue("db.pool-size", ConfigValueFactory.fromAnyRef(32));
+
+        assertThat(ConfigDiff.changedPaths(parse(BASE).root(), after.root())).containsExactly("db.pool-size");
+    }
+
+    @Test
+    @DisplayName("Should report added and removed subtrees at their root")
+    void addedAndRemovedSubtrees_shouldBeReported() {
+        Config before = parse(BASE);
+        Config after = before.withoutPath("http").withFallback(parse("cache { size = 10 }"));
+
+        assertThat(ConfigDiff.changedPaths(before.root(), after.root())).containsExactly("cache", "http");
+    }
+
+    @Test
+    @DisplayName("Should match subscriptions above, at and below the changed path")
+    void affects_shouldMatchRelatedPathsOnly() {
+        Set<String> changed = Set.of("db.pool-size");
+
+        assertThat(ConfigDiff.affects(changed, "db")).isTrue();
+        assertThat(ConfigDiff.affects(changed, "db.pool-size")).isTrue();
+        assertThat(ConfigDiff.affects(Set.of("db"), "db.pool-size")).isTrue();
+        assertThat(ConfigDiff.affects(changed, "http")).isFalse();
+        assertThat(ConfigDiff.affects(changed, "db.pool")).isFalse();
+    }
+
+    private static Config parse(String hocon) {
+        return ConfigFactory.parseString(hocon).resolve();
+    }
+}
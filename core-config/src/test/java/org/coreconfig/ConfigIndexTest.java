@@ -0,0 +1,83 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigIndex Tests")
+class ConfigIndexTest {
+
+    private static final String HOCON = """
+            db { timeout = 2s, pool-size = 16, ratio = 0.75, retries = "3", enabled = yes, name = "orders", api-token = "abc" }
+            http.idle-timeout = 1500
+            tags = [a, b]
+            """;
+
+    @Test
+    @DisplayName("Should return pre-converted values by path and by token")
+    void lookups_shouldReturnConvertedValues() {
+        ConfigIndex index = ConfigIndex.of(ConfigFactory.parseString(HOCON).resolve());
+        int timeout = ConfigIndex.token("db.timeout");
+
+        assertThat(index.getDuration(timeout)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(index.getDuration(timeout)).isSameAs(index.getDuration("db.timeout"));
+        assertThat(index.getInt("db.pool-size")).isEqualTo(16);
+        assertThat(index.getLong("db.pool-size")).isEqualTo(16L);
+        assertThat(index.getDouble("db.ratio")).isEqualTo(0.75);
+        assertThat(index.getInt("db.retries")).isEqualTo(3);
+        assertThat(index.getBoolean("db.enabled")).isTrue();
+        assertThat(index.getString("db.name")).isEqualTo("orders");
+        assertThat(index.getString("db.pool-size")).isEqualTo("16");
+        assertThat(index.getDuration("http.idle-timeout")).isEqualTo(Duration.ofMillis(1500));
+        assertThat(index.hasPath("tags")).isFalse();
+        assertThat(index.size()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Tokens should stay valid for indexes built from later configs")
+    void tokens_shouldBeStableAcrossIndexes() {
+        int poolSize = ConfigIndex.token("db.pool-size");
+        ConfigIndex before = ConfigIndex.of(ConfigFactory.parseString(HOCON).resolve());
+        ConfigIndex after = ConfigIndex.of(ConfigFactory.parseString("extra.key = 1, db.pool-size = 32"));
+
+        assertThat(ConfigIndex.token("db.pool-size")).isEqualTo(poolSize);
+        assertThat(before.getInt(poolSize)).isEqualTo(16);
+        assertThat(after.getInt(poolSize)).isEqualTo(32);
+        assertThat(after.hasPath("db.timeout")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail like Typesafe Config for missing and mistyped values, without quoting secrets")
+    void lookups_withMissingOrMistypedValues_shouldThrow() {
+        ConfigIndex index = ConfigIndex.of(ConfigFactory.parseString(HOCON).resolve());
+
+        int tokens = ConfigIndex.tokenCount();
+        assertThatThrownBy(() -> index.getInt("db.missing")).isInstanceOf(ConfigException.Missing.class);
+        assertThatThrownBy(() -> index.getString("db.typo-" + tokens)).isInstanceOf(ConfigException.Missing.class);
+        assertThat(ConfigIndex.tokenCount()).isEqualTo(tokens);
+        assertThatThrownBy(() -> index.getLong("db.name"))
+                .isInstanceOf(ConfigException.WrongType.class)
+                .hasMessageContaining("db.name");
+        assertThatThrownBy(() -> index.getDuration("db.name")).hasMessageContaining("'orders'");
+        assertThatThrownBy(() -> index.getDuration("db.api-token"))
+                .isInstanceOf(ConfigException.BadValue.class)
+                .hasMessageContaining("[REDACTED]")
+                .hasMessageNotContaining("abc");
+    }
+
+    @Test
+    @DisplayName("ConfigLoader.load should publish the index of the loaded config, and other loads should not replace it")
+    void configLoaderLoad_shouldPublishIndex() {
+        ConfigLoader.load(ConfigFactory.parseString("indexed { port = 8443 }"));
+
+        assertThat(ConfigLoader.index().getInt("indexed.port")).isEqualTo(8443);
+
+        ConfigPipeline.of(ConfigSource.of("other", () -> ConfigFactory.parseString("indexed { port = 1 }"))).load();
+        assertThat(ConfigLoader.index().getInt("indexed.port")).isEqualTo(8443);
+    }
+}
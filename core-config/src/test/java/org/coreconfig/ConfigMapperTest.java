@@ -149,7 +149,7 @@ class ConfigMapperTest {
             assertThatThrownBy(() -> mapper.map(config, "http", HttpConfig.class))
                     .isInstanceOf(RuntimeException.class)
                     .hasRootCauseInstanceOf(IllegalStateException.class)
-                    .hasRootCauseMessageContaining("Missing required config key: idle-timeout");
+                    .rootCause().hasMessageContaining("Missing required config key: idle-timeout");
         }
 
         @Test
@@ -180,8 +180,8 @@ class ConfigMapperTest {
                     .isInstanceOf(com.typesafe.config.ConfigException.WrongType.class);
         }
 
-        // A record with a type not supported by our getValue() method.
-        private record UnsupportedTypeConfig(java.util.List<String> items) {}
+        // A record with a component type neither binder can read.
+        private record UnsupportedTypeConfig(java.util.Optional<String> items) {}
 
         @Test
         @DisplayName("Should throw when a record contains an unsupported type")
@@ -194,7 +194,66 @@ class ConfigMapperTest {
             assertThatThrownBy(() -> mapper.map(config, "unsupported", UnsupportedTypeConfig.class))
                     .isInstanceOf(RuntimeException.class)
                     .hasRootCauseInstanceOf(UnsupportedOperationException.class)
-                    .hasRootCauseMessage("Unsupported config type: List");
+                    .hasRootCauseMessage("Unsupported config type: Optional");
+        }
+    }
+
+    @Nested
+    @DisplayName("Binders")
+    class BinderTests {
+
+        // Not annotated with @ConfigRecord, so it has no generated binder.
+        record PlainConfig(String name, long size) {}
+
+        @Test
+        @DisplayName("Should resolve a binder once per record type")
+        void binder_isCachedPerRecordType() {
+            assertThat(ConfigMapper.binder(HttpConfig.class)).isSameAs(ConfigMapper.binder(HttpConfig.class));
+            assertThat(ConfigMapper.binder(HttpConfig.class)).isNotSameAs(ConfigMapper.binder(DbConfig.class));
+        }
+
+        @Test
+        @DisplayName("Should prefer the generated binder for @ConfigRecord types")
+        void binder_forConfigRecord_shouldBeGenerated() {
+            assertThat(ConfigMapper.binder(HttpConfig.class)).isInstanceOf(HttpConfig_ConfigBinder.class);
+            assertThat(ConfigMapper.binder(AppConfig.class)).isInstanceOf(AppConfig_ConfigBinder.class);
+        }
+
+        @Test
+        @DisplayName("Should fall back to a reflective plan for records without a generated binder")
+        void binder_forPlainRecord_shouldBeReflective() {
+            Config config = ConfigFactory.parseString("plain { name = \"a\", size = 42 }");
+
+            assertThat(ConfigMapper.binder(PlainConfig.class)).isInstanceOf(BindingPlan.class);
+            assertThat(mapper.map(config, "plain", PlainConfig.class)).isEqualTo(new PlainConfig("a", 42));
+        }
+
+        @Test
+        @DisplayName("Generated and reflective binders should produce equal records")
+        void generatedAndReflectiveBinders_shouldAgree() {
+            Config slice = ConfigFactory.parseString("host = \"localhost\", port = 8080, idle-timeout = 60s");
+
+            assertThat(new HttpConfig_ConfigBinder().bind(slice))
+                    .isEqualTo(BindingPlan.compile(HttpConfig.class).bind(slice));
+        }
+
+        @Test
+        @DisplayName("Should convert camelCase component names to kebab-case keys")
+        void toKebabCase_shouldMatchConfigKeyConvention() {
+            assertThat(BindingPlan.toKebabCase("port")).isEqualTo("port");
+            assertThat(BindingPlan.toKebabCase("idleTimeout")).isEqualTo("idle-timeout");
+            assertThat(BindingPlan.toKebabCase("poolSize")).isEqualTo("pool-size");
+        }
+
+        @Test
+        @DisplayName("Should reject types that are not records")
+        void map_withNonRecordType_shouldThrow() {
+            Config config = ConfigFactory.parseString("plain { value = 1 }");
+
+            assertThatThrownBy(() -> mapper.map(config, "plain", String.class))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                    .rootCause().hasMessageContaining("must be a record");
         }
     }
 }
@@ -0,0 +1,205 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigPipeline Tests")
+class ConfigPipelineTest {
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("config.profile");
+        System.clearProperty("pipeline.greeting");
+        System.clearProperty("config.override_with_env_vars");
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    @DisplayName("Should apply system properties on top of the active profile")
+    void defaults_withProfile_shouldLayerSystemPropertiesOnTop() {
+        System.setProperty("config.profile", "pipeline");
+        System.setProperty("pipeline.greeting", "overridden");
+        ConfigFactory.invalidateCaches();
+
+        Config config = ConfigPipeline.defaults().load();
+
+        assertThat(config.getString("pipeline.name")).isEqualTo("profile");
+        assertThat(config.getString("pipeline.greeting")).isEqualTo("overridden");
+    }
+
+    @Test
+    @DisplayName("Should layer sources in priority order and resolve substitutions across them")
+    void load_shouldLayerInOrder() {
+        ConfigPipeline pipeline = ConfigPipeline.of(
+                        source("high", "a = high"),
+                        source("low", "a = low, b = low, c = ${b}\"!\""))
+                .above("high", source("top", "b = top"))
+                .below("high", source("middle", "a = middle, d = middle"));
+
+        Config config = pipeline.load();
+
+        assertThat(pipeline.sources()).extracting(ConfigSource::name).containsExactly("top", "high", "middle", "low");
+        assertThat(config.getString("a")).isEqualTo("high");
+        assertThat(config.getString("c")).isEqualTo("top!");
+        assertThat(config.getString("d")).isEqualTo("middle");
+        assertThatThrownBy(() -> pipeline.above("missing", source("x", "")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("missing");
+    }
+
+    @Test
+    @DisplayName("Should load independent sources concurrently")
+    void load_shouldLoadSourcesConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ConfigSource first = ConfigSource.of("first", () -> awaitThen(bothStarted, "first = 1"));
+        ConfigSource second = ConfigSource.of("second", () -> awaitThen(bothStarted, "second = 2"));
+
+        Config config = ConfigPipeline.of(first, second).load();
+
+        assertThat(config.getInt("first")).isEqualTo(1);
+        assertThat(config.getInt("second")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reuse a source's parse until its version or one of its files changes")
+    void load_shouldCacheUnchangedSources() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+        ConfigSource versioned = new ConfigSource() {
+            @Override
+            public String name() {
+                return "versioned";
+            }
+
+            @Override
+            public Config load() {
+                loads.incrementAndGet();
+                return ConfigFactory.parseString("versioned = true");
+            }
+
+            @Override
+            public Object version() {
+                return "v1";
+            }
+        };
+        Path main = write("main.conf", "include \"extra.conf\"\nmain = 1");
+        Path extra = write("extra.conf", "extra = 1");
+        ConfigPipeline pipeline = ConfigPipeline.of(versioned, ConfigSource.file(main));
+
+        assertThat(pipeline.load().getInt("extra")).isEqualTo(1);
+        assertThat(pipeline.load().getInt("extra")).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+
+        // Same size, and an old modification time, but a different stamp: the included file is re-read.
+        write("extra.conf", "extra = 2");
+        Files.setLastModifiedTime(extra, FileTime.from(Instant.now().minusSeconds(30)));
+
+        assertThat(pipeline.load().getInt("extra")).isEqualTo(2);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should apply CONFIG_FORCE_ environment overrides only when the process opts in")
+    void environment_shouldBeOptIn() {
+        assertThat(ConfigSource.environment().load().isEmpty()).isTrue();
+        Object versionWhenOff = ConfigSource.environment().version();
+
+        System.setProperty("config.override_with_env_vars", "true");
+
+        assertThat(ConfigSource.environment().load()).isEqualTo(ConfigFactory.systemEnvironmentOverrides());
+        assertThat(ConfigSource.environment().version()).isNotEqualTo(versionWhenOff);
+    }
+
+    @Test
+    @DisplayName("Should read one key per file from a secret directory, skipping hidden files")
+    void secretDirectory_shouldReadVisibleFiles() throws IOException {
+        Path secrets = Files.createDirectories(dir.resolve("secrets"));
+        Files.writeString(secrets.resolve("db_password"), "s3cret\n");
+        Files.writeString(secrets.resolve(".hidden"), "nope");
+
+        Config config = ConfigPipeline.of(
+                ConfigSource.secretDirectory(secrets),
+                source("app", "db { password = ${?db_password} }")).load();
+
+        assertThat(config.getString("db.password")).isEqualTo("s3cret");
+        assertThat(config.hasPath("\".hidden\"")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report every source that failed to load")
+    void load_withFailingSources_shouldAggregateFailures() {
+        ConfigPipeline pipeline = ConfigPipeline.of(
+                ConfigSource.of("vault", () -> { throw new IllegalStateException("sealed"); }),
+                source("ok", "a = 1"),
+                ConfigSource.of("consul", () -> { throw new IllegalStateException("unreachable"); }));
+
+        assertThatThrownBy(pipeline::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("vault: java.lang.IllegalStateException: sealed")
+                .hasMessageContaining("consul: java.lang.IllegalStateException: unreachable")
+                .satisfies(e -> assertThat(e.getSuppressed()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("Should report a source that does not finish in time as failed instead of waiting for it")
+    void load_withStuckSource_shouldTimeOut() {
+        CountDownLatch never = new CountDownLatch(1);
+        ConfigPipeline pipeline = ConfigPipeline.of(
+                        ConfigSource.of("stuck", () -> awaitOrEmpty(never)),
+                        source("ok", "b = 2"))
+                .loadTimeout(Duration.ofMillis(200));
+
+        assertThatThrownBy(pipeline::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("stuck: timed out after 200 ms")
+                .hasMessageNotContaining("ok:");
+    }
+
+    private static ConfigSource source(String name, String hocon) {
+        return ConfigSource.of(name, () -> ConfigFactory.parseString(hocon));
+    }
+
+    private static Config awaitOrEmpty(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return ConfigFactory.empty();
+    }
+
+    private static Config awaitThen(CountDownLatch latch, String hocon) {
+        latch.countDown();
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).as("other source started").isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return ConfigFactory.parseString(hocon);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = Files.writeString(dir.resolve(name), content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(60)));
+        return file;
+    }
+}
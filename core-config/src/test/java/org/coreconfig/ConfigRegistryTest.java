@@ -0,0 +1,125 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigRegistry Tests")
+class ConfigRegistryTest {
+
+    private static final String BASE = """
+            http { host = "localhost", port = 8080, idle-timeout = 10s }
+            db { url = "jdbc:h2:mem:", user = "a", password = "b", pool-size = 4, timeout = 1s }
+            """;
+
+    record Reference(int[] ids, String name) {}
+
+    record ReferenceAggregate(HttpConfig http, Reference reference) {}
+
+    private static BootOptions options() {
+        return BootOptions.defaults().sources(ConfigPipeline.of(ConfigSource.of("base", () -> ConfigFactory.parseString(BASE))));
+    }
+
+    @Test
+    @DisplayName("Should share untouched sections with the base and intern equal sections across tenants")
+    void tenant_shouldShareSections() {
+        ConfigRegistry<AppConfig> registry = ConfigRegistry.create(AppConfig.class, options());
+
+        AppConfig plain = registry.tenant("plain", ConfigFactory.empty());
+        AppConfig acme = registry.tenant("acme", ConfigFactory.parseString("db.pool-size = ${db.pool-size}0"));
+        AppConfig globex = registry.tenant("globex", ConfigFactory.parseString("db { pool-size = 40 }"));
+        AppConfig initech = registry.tenant("initech", ConfigFactory.parseString("http.port = 8080, db.user = \"i\""));
+
+        assertThat(plain).isSameAs(registry.base());
+        assertThat(acme.db().poolSize()).isEqualTo(40);
+        assertThat(acme.http()).isSameAs(registry.base().http());
+        assertThat(globex.db()).isSameAs(acme.db());
+        assertThat(initech.http()).isSameAs(registry.base().http());
+        assertThat(initech.db().user()).isEqualTo("i");
+        assertThat(registry.distinctSections()).isEqualTo(4);
+        assertThat(registry.tenantIds()).containsExactlyInAnyOrder("plain", "acme", "globex", "initech");
+        assertThat(registry.getOrBase("unknown")).isSameAs(registry.base());
+    }
+
+    @Test
+    @DisplayName("Parallel binding of many tenants should match sequential binding")
+    void tenants_inParallel_shouldMatchSequential() {
+        Map<String, Config> overrides = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            overrides.put("tenant-" + i, ConfigFactory.parseString("db.pool-size = " + (1 + i % 5)));
+        }
+
+        Map<String, AppConfig> sequential = ConfigRegistry.create(AppConfig.class, options()).tenants(overrides);
+        ConfigRegistry<AppConfig> registry = ConfigRegistry.create(AppConfig.class, options().parallel());
+        Map<String, AppConfig> parallel = registry.tenants(overrides);
+
+        assertThat(parallel).containsExactlyEntriesOf(sequential);
+        assertThat(registry.get("tenant-7").db().poolSize()).isEqualTo(3);
+        // http, the base db and pool sizes 1, 2, 3 and 5 (4 is the base's).
+        assertThat(registry.distinctSections()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should intern sections holding arrays by their content")
+    void tenant_withArraySections_shouldShareEqualContent() {
+        String base = BASE + "reference { ids = [1, 2], name = base }";
+        BootOptions options = BootOptions.defaults().sources(ConfigPipeline.of(ConfigSource.of("base", () -> ConfigFactory.parseString(base))));
+        ConfigRegistry<ReferenceAggregate> registry = ConfigRegistry.create(ReferenceAggregate.class, options);
+
+        ReferenceAggregate acme = registry.tenant("acme", ConfigFactory.parseString("reference.ids = [1, 2, 3]"));
+        ReferenceAggregate globex = registry.tenant("globex", ConfigFactory.parseString("reference { ids = [1, 2, 3] }"));
+        // Rebound, as its text differs, but to the same content as the base.
+        ReferenceAggregate same = registry.tenant("same", ConfigFactory.parseString("reference.ids = [\"1\", \"2\"]"));
+
+        assertThat(globex.reference()).isSameAs(acme.reference());
+        assertThat(acme.reference().ids()).containsExactly(1, 2, 3);
+        assertThat(same.reference()).isSameAs(registry.base().reference());
+        assertThat(registry.distinctSections()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop sections no tenant uses any more when tenants are replaced or removed")
+    void replaceAndRemove_shouldReleaseUnusedSections() {
+        ConfigRegistry<AppConfig> registry = ConfigRegistry.create(AppConfig.class, options());
+        registry.tenant("acme", ConfigFactory.parseString("db.pool-size = 40"));
+        registry.tenant("globex", ConfigFactory.parseString("db.pool-size = 40"));
+
+        for (int size = 5; size < 50; size++) {
+            registry.tenant("acme", ConfigFactory.parseString("db.pool-size = " + size));
+        }
+        assertThat(registry.distinctSections()).isEqualTo(4);
+        assertThat(registry.get("globex").db().poolSize()).isEqualTo(40);
+
+        assertThat(registry.remove("acme")).isTrue();
+        assertThat(registry.remove("globex")).isTrue();
+        assertThat(registry.distinctSections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report failures from every tenant and register the others")
+    void tenants_withInvalidOverrides_shouldAggregateByTenant() {
+        ConfigRegistry<AppConfig> registry = ConfigRegistry.create(AppConfig.class, options().parallel());
+        AppConfig before = registry.tenant("bad", ConfigFactory.parseString("db.pool-size = 2"));
+
+        Map<String, Config> overrides = new LinkedHashMap<>();
+        overrides.put("good", ConfigFactory.parseString("db.pool-size = 8"));
+        overrides.put("bad", ConfigFactory.parseString("db.pool-size = 0, http.port = 99999"));
+        overrides.put("worse", ConfigFactory.parseString("db.url = \"mysql:\""));
+
+        assertThatThrownBy(() -> registry.tenants(overrides))
+                .isInstanceOf(ConfigValidationException.class)
+                .satisfies(e -> assertThat(((ConfigValidationException) e).problems()).containsExactlyInAnyOrder(
+                        "bad.http.port must be less than or equal to 65535",
+                        "bad.db.poolSize must be positive",
+                        "worse.db.url must match \"^jdbc:.*\""));
+        assertThat(registry.get("good").db().poolSize()).isEqualTo(8);
+        assertThat(registry.get("bad")).isSameAs(before);
+        assertThat(registry.get("worse")).isNull();
+    }
+}
@@ -0,0 +1,88 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigRenderer Tests")
+class ConfigRendererTest {
+
+    private static final Config CONFIG = ConfigFactory.parseString("""
+            http { host = "localhost", port = 8080 }
+            db { url = "jdbc:h2:mem:", password = "hunter2", replicas = [{ host = "r1", password = "hunter3" }] }
+            secrets { api = "abc", nested { key = "def" } }
+            """);
+
+    @Test
+    @DisplayName("Should redact secret paths at any depth, including whole subtrees")
+    void defaults_shouldRedactNestedSecrets() {
+        String rendered = ConfigRenderer.defaults().render(CONFIG);
+
+        assertThat(rendered)
+                .contains("port = 8080", "host = \"localhost\"", "url = \"jdbc:h2:mem:\"", "password = \"[REDACTED]\"")
+                .contains("secrets = \"[REDACTED]\"")
+                .doesNotContain("hunter2", "hunter3", "abc", "def");
+    }
+
+    @Test
+    @DisplayName("Should render as HOCON that parses back to the same tree")
+    void output_shouldBeValidHocon() {
+        Config plain = ConfigFactory.parseString("a { b = [1, 2.5, true, null, \"x y\"], \"c.d\" = { e = \"f\" } }");
+
+        String rendered = ConfigRenderer.defaults().redacting(path -> false).render(plain);
+
+        assertThat(ConfigFactory.parseString(rendered).root()).isEqualTo(plain.root());
+    }
+
+    @Test
+    @DisplayName("Should render only the chosen subtrees")
+    void only_shouldLimitToSubtrees() {
+        String rendered = ConfigRenderer.defaults().only("http", "missing.path").render(CONFIG);
+
+        assertThat(rendered).contains("http {", "port = 8080").doesNotContain("db", "secrets");
+    }
+
+    @Test
+    @DisplayName("Should stop at the size limit and mark the output as truncated")
+    void maxChars_shouldTruncate() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        ConfigRenderer.defaults().maxChars(20).render(CONFIG, writer);
+
+        assertThat(writer.toString()).startsWith(ConfigRenderer.defaults().render(CONFIG).substring(0, 20))
+                .contains("truncated after 20 characters");
+    }
+
+    @Test
+    @DisplayName("Should stream the rendering in whole-line chunks for logging")
+    void chunkWriter_shouldPassOnWholeLines() throws Exception {
+        List<String> chunks = new ArrayList<>();
+        List<Boolean> last = new ArrayList<>();
+
+        try (ConfigLoader.ChunkWriter writer = new ConfigLoader.ChunkWriter(40, (chunk, isLast) -> {
+            chunks.add(chunk);
+            last.add(isLast);
+        })) {
+            ConfigRenderer.defaults().render(CONFIG, writer);
+        }
+
+        assertThat(String.join("", chunks)).isEqualTo(ConfigRenderer.defaults().render(CONFIG));
+        assertThat(chunks).hasSizeGreaterThan(2).allSatisfy(chunk -> assertThat(chunk).endsWith("\n").hasSizeLessThanOrEqualTo(40));
+        assertThat(last).containsOnlyOnce(true).endsWith(true);
+    }
+
+    @Test
+    @DisplayName("Should apply a custom redaction rule")
+    void redacting_shouldUseCustomMatcher() {
+        String rendered = ConfigRenderer.defaults().redacting(path -> path.equals("http.host")).render(CONFIG);
+
+        assertThat(rendered).contains("host = \"[REDACTED]\"", "hunter2");
+    }
+}
@@ -0,0 +1,180 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConfigSnapshotCache Tests")
+class ConfigSnapshotCacheTest {
+
+    private static final String TEMPLATE = """
+            http { host = "localhost", port = %d, idle-timeout = 10s }
+            db { url = "jdbc:h2:mem:", user = "a", password = %s, pool-size = 4, timeout = 1s }
+            """;
+    private static final String SECRET = "s3cr3t-value";
+
+    @TempDir
+    Path dir;
+
+    private Path configFile;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        configFile = dir.resolve("application.conf");
+        snapshot = dir.resolve("config.snapshot");
+        Files.writeString(configFile, TEMPLATE.formatted(8080, "${?DB_PASSWORD}"));
+        System.setProperty("config.file", configFile.toString());
+        System.setProperty("DB_PASSWORD", SECRET);
+        ConfigFactory.invalidateCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("config.file");
+        System.clearProperty("config.url");
+        System.clearProperty("DB_PASSWORD");
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    @DisplayName("Should reuse the snapshot on the next load and never write the secret to disk")
+    void secondLoad_shouldHitSnapshotWithoutStoringSecret() throws IOException {
+        Config first = load(ConfigPipeline.defaults());
+        Config second = load(ConfigPipeline.defaults());
+
+        assertThat(fromSnapshot(first)).isFalse();
+        assertThat(fromSnapshot(second)).isTrue();
+        assertThat(second.getInt("http.port")).isEqualTo(8080);
+        assertThat(second.getString("db.password")).isEqualTo(SECRET);
+        assertThat(second.getConfig("db").root()).isEqualTo(first.getConfig("db").root());
+        assertThat(contentOf(snapshot)).doesNotContain(SECRET);
+    }
+
+    @Test
+    @DisplayName("Should reload from the sources when a source file changes")
+    void changedSource_shouldInvalidateSnapshot() throws IOException {
+        load(ConfigPipeline.defaults());
+        Files.writeString(configFile, TEMPLATE.formatted(9090, "${?DB_PASSWORD}"));
+        ConfigFactory.invalidateCaches();
+
+        Config reloaded = load(ConfigPipeline.defaults());
+
+        assertThat(fromSnapshot(reloaded)).isFalse();
+        assertThat(reloaded.getInt("http.port")).isEqualTo(9090);
+    }
+
+    @Test
+    @DisplayName("Should refuse to write a snapshot when a source file holds a literal secret")
+    void literalSecret_shouldNotBeCached() throws IOException {
+        Files.writeString(configFile, TEMPLATE.formatted(8080, "\"" + SECRET + "\""));
+        System.clearProperty("DB_PASSWORD");
+        ConfigFactory.invalidateCaches();
+
+        load(ConfigPipeline.defaults());
+
+        assertThat(snapshot).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should never store values of non-file layers, and load them again on every hit")
+    void nonFileLayers_shouldNotBeStoredAndShouldBeReapplied() throws IOException {
+        Path secrets = Files.createDirectories(dir.resolve("secrets"));
+        Files.writeString(secrets.resolve("api-key"), "k3y-value");
+        AtomicInteger port = new AtomicInteger(7777);
+        ConfigPipeline pipeline = ConfigPipeline.defaults()
+                .below("system-properties", ConfigSource.secretDirectory(secrets))
+                .above("application", ConfigSource.of("overrides", () -> ConfigFactory.parseString("http.port = " + port.get())));
+
+        load(pipeline);
+        port.set(7778);
+        Config hit = load(pipeline);
+
+        assertThat(fromSnapshot(hit)).isTrue();
+        assertThat(hit.getString("api-key")).isEqualTo("k3y-value");
+        assertThat(hit.getInt("http.port")).isEqualTo(7778);
+        assertThat(contentOf(snapshot)).doesNotContain("k3y-value", "api-key");
+    }
+
+    @Test
+    @DisplayName("Should invalidate the snapshot when a directory source gains a file")
+    void changedDirectorySource_shouldInvalidateSnapshot() throws IOException {
+        Path confD = Files.createDirectories(dir.resolve("conf.d"));
+        Files.writeString(confD.resolve("10-base.conf"), "http.port = 8181");
+        ConfigPipeline pipeline = ConfigPipeline.defaults().above("application", ConfigSource.directory(confD));
+        load(pipeline);
+        assertThat(fromSnapshot(load(pipeline))).isTrue();
+
+        Files.writeString(confD.resolve("20-site.conf"), "http.port = 8282");
+        Config reloaded = load(pipeline);
+
+        assertThat(fromSnapshot(reloaded)).isFalse();
+        assertThat(reloaded.getInt("http.port")).isEqualTo(8282);
+    }
+
+    @Test
+    @DisplayName("Should not write a snapshot when a file layer cannot tell whether it changed")
+    void unversionedFileLayer_shouldNotBeCached() {
+        System.clearProperty("config.file");
+        System.setProperty("config.url", configFile.toUri().toString());
+        ConfigFactory.invalidateCaches();
+
+        Config loaded = load(ConfigPipeline.defaults());
+
+        assertThat(loaded.getInt("http.port")).isEqualTo(8080);
+        assertThat(snapshot).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should resolve external sections relative to their config file when restored from the snapshot")
+    void externalSection_shouldResolveRelativeToConfigFileOnHit() throws IOException {
+        Files.createDirectories(dir.resolve("reference"));
+        Files.writeString(dir.resolve("reference/ids.csv"), "1,2,3\n");
+        Files.writeString(configFile, TEMPLATE.formatted(8080, "${?DB_PASSWORD}") + "ext { ids = \"reference/ids.csv\" }\n");
+
+        Config first = load(ConfigPipeline.defaults());
+        Config second = load(ConfigPipeline.defaults());
+
+        assertThat(fromSnapshot(second)).isTrue();
+        assertThat(ConfigValues.intArray(first.getConfig("ext"), "ids")).containsExactly(1, 2, 3);
+        assertThat(ConfigValues.intArray(second.getConfig("ext"), "ids")).containsExactly(1, 2, 3);
+        assertThat(second.getValue("ext.ids").origin().lineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should boot the aggregate through the snapshot")
+    void boot_shouldUseSnapshot() {
+        BootOptions options = BootOptions.defaults().snapshotCache(snapshot);
+
+        AppConfig first = SimpleConfig.boot(AppConfig.class, options);
+        AppConfig second = SimpleConfig.boot(AppConfig.class, options);
+
+        assertThat(snapshot).exists();
+        assertThat(second).isEqualTo(first);
+        assertThat(second.db().password()).isEqualTo(SECRET);
+    }
+
+    private Config load(ConfigPipeline pipeline) {
+        return ConfigSnapshotCache.load(snapshot, null, pipeline, new BootRecorder());
+    }
+
+    private static boolean fromSnapshot(Config config) {
+        return config.getValue("db.pool-size").origin().description().startsWith("snapshot");
+    }
+
+    private static String contentOf(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,122 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Array, collection and nested record binding Tests")
+class ConfigValuesTest {
+
+    @ConfigRecord
+    record LimitConfig(@NotBlank String symbol, @Positive int maxOrders) {}
+
+    @ConfigRecord
+    record RiskConfig(int[] buckets, long[] sizes, double[] weights, List<String> venues, Set<Duration> timeouts,
+                      Map<String, Integer> quotas, LimitConfig primary, List<LimitConfig> limits,
+                      Map<String, LimitConfig> overrides) {}
+
+    // Not annotated with @ConfigRecord, so it is bound reflectively.
+    record ObjectListConfig(List<Object> items) {}
+
+    private static final String RISK = """
+            risk {
+              buckets = [1, 2, 3]
+              sizes = [10, 5000000000]
+              weights = [0.5, 1, "2.5"]
+              venues = ["XNYS", "XLON"]
+              timeouts = [1s, 500ms, 1s]
+              quotas { eu-west = 10, "us.east" = 20 }
+              primary { symbol = "AAPL", max-orders = 5 }
+              limits = [
+                { symbol = "MSFT", max-orders = 1 }
+                { symbol = "IBM", max-orders = 2 }
+              ]
+              overrides { night { symbol = "*", max-orders = 3 } }
+            }
+            """;
+
+    private final ConfigMapper mapper = new ConfigMapper();
+
+    @Test
+    @DisplayName("Should bind primitive arrays, immutable collections and nested records")
+    void map_withArraysCollectionsAndRecords_shouldBindThem() {
+        RiskConfig risk = mapper.map(ConfigFactory.parseString(RISK), "risk", RiskConfig.class);
+
+        assertThat(risk.buckets()).containsExactly(1, 2, 3);
+        assertThat(risk.sizes()).containsExactly(10L, 5_000_000_000L);
+        assertThat(risk.weights()).containsExactly(0.5, 1.0, 2.5);
+        assertThat(risk.venues()).containsExactly("XNYS", "XLON");
+        assertThat(risk.timeouts()).containsExactlyInAnyOrder(Duration.ofSeconds(1), Duration.ofMillis(500));
+        assertThat(risk.quotas()).containsOnly(entry("eu-west", 10), entry("us.east", 20));
+        assertThat(risk.primary()).isEqualTo(new LimitConfig("AAPL", 5));
+        assertThat(risk.limits()).containsExactly(new LimitConfig("MSFT", 1), new LimitConfig("IBM", 2));
+        assertThat(risk.overrides()).containsOnly(entry("night", new LimitConfig("*", 3)));
+
+        assertThatThrownBy(() -> risk.venues().add("XPAR")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> risk.timeouts().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> risk.overrides().remove("night")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Generated and reflective binders should produce the same values")
+    void generatedAndReflectiveBinders_shouldAgree() {
+        Config slice = ConfigFactory.parseString(RISK).getConfig("risk");
+
+        assertThat(ConfigMapper.binder(RiskConfig.class)).isInstanceOf(ConfigValuesTest_RiskConfig_ConfigBinder.class);
+        assertThat(new ConfigValuesTest_RiskConfig_ConfigBinder().bind(slice))
+                .usingRecursiveComparison()
+                .isEqualTo(BindingPlan.compile(RiskConfig.class).bind(slice));
+        assertThat(BindingPlan.compile(RiskConfig.class).componentElementTypes())
+                .isEqualTo(new ConfigValuesTest_RiskConfig_ConfigBinder().componentElementTypes());
+    }
+
+    @Test
+    @DisplayName("Should report nested record violations under their full path")
+    void map_withInvalidNestedRecords_shouldPrefixProblems() {
+        assertThat(problems("risk.limits = [{ symbol = \"MSFT\", max-orders = 1 }, { symbol = \"IBM\", max-orders = 0 }]"))
+                .containsExactly("limits.1.maxOrders must be greater than 0");
+        assertThat(problems("risk.overrides.night.symbol = \" \""))
+                .containsExactly("overrides.night.symbol must not be blank");
+    }
+
+    @Test
+    @DisplayName("Should name the offending element when a value has the wrong type")
+    void map_withWrongElementType_shouldNameTheElement() {
+        Config config = ConfigFactory.parseString("risk.buckets = [1, \"many\"]").withFallback(ConfigFactory.parseString(RISK));
+
+        assertThatThrownBy(() -> mapper.map(config, "risk", RiskConfig.class))
+                .hasRootCauseInstanceOf(ConfigException.WrongType.class)
+                .rootCause().hasMessageContaining("buckets.1");
+    }
+
+    @Test
+    @DisplayName("Should reject collections of element types that cannot be bound")
+    void map_withUnsupportedElementType_shouldThrow() {
+        Config config = ConfigFactory.parseString("objects { items = [1, \"a\"] }");
+
+        assertThatThrownBy(() -> mapper.map(config, "objects", ObjectListConfig.class))
+                .hasRootCauseInstanceOf(UnsupportedOperationException.class)
+                .hasRootCauseMessage("Unsupported config type: List");
+    }
+
+    private List<String> problems(String override) {
+        Config config = ConfigFactory.parseString(override).withFallback(ConfigFactory.parseString(RISK));
+        try {
+            mapper.map(config, "risk", RiskConfig.class);
+        } catch (ConfigValidationException e) {
+            return e.problems();
+        }
+        throw new AssertionError("Expected a ConfigValidationException");
+    }
+}
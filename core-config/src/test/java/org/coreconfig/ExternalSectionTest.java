@@ -0,0 +1,157 @@
+package org.coreconfig;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigException;
+import com.typesafe.config.ConfigFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("External section Tests")
+class ExternalSectionTest {
+
+    @ConfigRecord
+    record Instrument(@NotBlank String symbol, String venue, @Positive int lotSize) {}
+
+    @ConfigRecord
+    record ReferenceConfig(int[] ids, long[] notionals, double[] weights, List<Instrument> instruments,
+                           Map<String, Instrument> bySymbol, Map<String, Integer> quotas) {}
+
+    // Not annotated with @ConfigRecord, so it is bound reflectively.
+    record TokenConfig(long[] apiTokens) {}
+
+    @TempDir
+    Path dir;
+
+    private final ConfigMapper mapper = new ConfigMapper();
+
+    @Test
+    @DisplayName("Should read arrays, records and lookup tables from CSV and JSON files next to the config")
+    void map_withExternalFiles_shouldReadThem() throws IOException {
+        Files.createDirectories(dir.resolve("reference"));
+        write("reference/ids.csv", "1,2,3\n4\r\n\n5,\n");
+        write("reference/notionals.json", "[10, -20, 9223372036854775807]");
+        write("reference/weights.csv", "0.5\n1\n2.5e1\n");
+        write("reference/instruments.csv", """
+                symbol,venue,lot-size
+                AAPL,XNAS,100
+                "BRK \"\"A\"\"", "XNYS, main",1
+                """);
+        write("reference/by-symbol.json", """
+                { "AAPL": { "symbol": "AAPL", "venue": "XNAS", "lot-size": 100 },
+                  "VOD.L": { "symbol": "VOD", "venue": "XLON\\u0021", "lot-size": "10" } }
+                """);
+        write("reference/quotas.csv", "eu-west,10\nus.east,20\n");
+
+        ReferenceConfig reference = mapper.map(load(), "reference", ReferenceConfig.class);
+
+        assertThat(reference.ids()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(reference.notionals()).containsExactly(10L, -20L, Long.MAX_VALUE);
+        assertThat(reference.weights()).containsExactly(0.5, 1.0, 25.0);
+        assertThat(reference.instruments()).containsExactly(
+                new Instrument("AAPL", "XNAS", 100), new Instrument("BRK \"A\"", "XNYS, main", 1));
+        assertThat(reference.bySymbol()).containsOnly(
+                entry("AAPL", new Instrument("AAPL", "XNAS", 100)), entry("VOD.L", new Instrument("VOD", "XLON!", 10)));
+        assertThat(reference.quotas()).containsOnly(entry("eu-west", 10), entry("us.east", 20));
+    }
+
+    @Test
+    @DisplayName("Should validate records read from a file and report them under their element path")
+    void map_withInvalidExternalRecord_shouldPrefixProblems() throws IOException {
+        writeValidFiles();
+        write("reference/instruments.csv", "symbol,venue,lot-size\nAAPL,XNAS,100\n ,XNYS,0\n");
+
+        assertThatThrownBy(() -> mapper.map(load(), "reference", ReferenceConfig.class))
+                .isInstanceOf(ConfigValidationException.class)
+                .satisfies(e -> assertThat(((ConfigValidationException) e).problems()).containsExactly(
+                        "instruments.1.lotSize must be greater than 0",
+                        "instruments.1.symbol must not be blank"));
+    }
+
+    @Test
+    @DisplayName("Should name the offending element and file when a value cannot be read")
+    void map_withMalformedValue_shouldNameElementAndFile() throws IOException {
+        writeValidFiles();
+        write("reference/ids.csv", "1,2,x3\n");
+
+        assertThatThrownBy(() -> mapper.map(load(), "reference", ReferenceConfig.class))
+                .hasRootCauseInstanceOf(ConfigException.BadValue.class)
+                .rootCause()
+                .hasMessageContaining("ids.2")
+                .hasMessageContaining("'x3'")
+                .hasMessageContaining("ids.csv");
+    }
+
+    @Test
+    @DisplayName("Should not quote values from sections that look secret")
+    void map_withMalformedSecretValue_shouldRedactIt() throws IOException {
+        write("tokens.json", "[12, \"hunter2\"]");
+        Path conf = write("application.conf", "tokens { api-tokens = \"tokens.json\" }");
+
+        assertThatThrownBy(() -> mapper.map(ConfigFactory.parseFile(conf.toFile()), "tokens", TokenConfig.class))
+                .hasRootCauseInstanceOf(ConfigException.BadValue.class)
+                .rootCause()
+                .hasMessageContaining("api-tokens.1")
+                .hasMessageContaining("[REDACTED]")
+                .hasMessageNotContaining("hunter2");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed JSON with its position")
+    void map_withMalformedJson_shouldThrow() throws IOException {
+        writeValidFiles();
+        write("reference/notionals.json", "[1, 2");
+
+        assertThatThrownBy(() -> mapper.map(load(), "reference", ReferenceConfig.class))
+                .hasRootCauseInstanceOf(ConfigException.BadValue.class)
+                .rootCause().hasMessageContaining("Malformed JSON").hasMessageContaining("unexpected end of file");
+    }
+
+    @Test
+    @DisplayName("Should log only the file reference, not its content")
+    void render_shouldShowTheReference() throws IOException {
+        writeValidFiles();
+
+        assertThat(ConfigRenderer.defaults().only("reference").render(load()))
+                .contains("ids = \"reference/ids.csv\"")
+                .doesNotContain("AAPL");
+    }
+
+    private Config load() throws IOException {
+        Path conf = write("application.conf", """
+                reference {
+                  ids = "reference/ids.csv"
+                  notionals = "reference/notionals.json"
+                  weights = "reference/weights.csv"
+                  instruments = "reference/instruments.csv"
+                  by-symbol = "reference/by-symbol.json"
+                  quotas = "reference/quotas.csv"
+                }
+                """);
+        return ConfigFactory.parseFile(conf.toFile()).resolve();
+    }
+
+    private void writeValidFiles() throws IOException {
+        Files.createDirectories(dir.resolve("reference"));
+        write("reference/ids.csv", "1,2,3\n");
+        write("reference/notionals.json", "[1]");
+        write("reference/weights.csv", "1.5\n");
+        write("reference/instruments.csv", "symbol,venue,lot-size\nAAPL,XNAS,100\n");
+        write("reference/by-symbol.json", "{}");
+        write("reference/quotas.csv", "eu,1\n");
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content);
+    }
+}
@@ -0,0 +1,105 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Lazy section Tests")
+class LazyTest {
+
+    /** An aggregate whose database section is only bound when used. */
+    @ConfigRecord
+    record LazyAppConfig(HttpConfig http, Lazy<DbConfig> db) {}
+
+    private static final String INVALID_DB = """
+            http { host = "localhost", port = 8080, idle-timeout = 10s }
+            db { url = "jdbc:h2:mem:", user = "a", password = "b", pool-size = 0, timeout = 1s }
+            """;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = dir.resolve("application.conf");
+        Files.writeString(file, INVALID_DB);
+        System.setProperty("config.file", file.toString());
+        ConfigFactory.invalidateCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("config.file");
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    @DisplayName("Should not bind or validate a lazy section until it is accessed")
+    void lazyBoot_shouldDeferBindingUntilFirstAccess() {
+        LazyAppConfig config = SimpleConfig.boot(LazyAppConfig.class);
+
+        assertThat(config.http().port()).isEqualTo(8080);
+        assertThat(config.db().isBound()).isFalse();
+
+        assertThatThrownBy(() -> config.db().get())
+                .isInstanceOf(ConfigValidationException.class)
+                .hasMessageContaining("db.poolSize must be positive");
+        assertThat(config.db().isBound()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Strict mode should bind lazy sections at boot and fail fast")
+    void strictBoot_shouldFailOnLazySection() {
+        assertThatThrownBy(() -> SimpleConfig.boot(LazyAppConfig.class, BootOptions.defaults().strict()))
+                .hasCauseInstanceOf(ConfigValidationException.class)
+                .cause()
+                .hasMessageContaining("db.poolSize must be positive");
+    }
+
+    @Test
+    @DisplayName("Should bind once and return the same instance to concurrent callers")
+    void get_shouldMemoizeAcrossThreads() throws Exception {
+        Files.writeString(dir.resolve("application.conf"), INVALID_DB.replace("pool-size = 0", "pool-size = 4"));
+        ConfigFactory.invalidateCaches();
+        Lazy<DbConfig> db = SimpleConfig.boot(LazyAppConfig.class).db();
+
+        List<Callable<DbConfig>> calls = IntStream.range(0, 16).<Callable<DbConfig>>mapToObj(i -> db::get).toList();
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            List<DbConfig> results = pool.invokeAll(calls).stream().map(LazyTest::join).toList();
+            assertThat(results).allSatisfy(result -> assertThat(result).isSameAs(results.get(0)));
+        }
+        assertThat(db.get().poolSize()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Generated and reflective binders should agree on lazy element types")
+    void binders_shouldExposeElementTypes() {
+        assertThat(ConfigMapper.binder(LazyAppConfig.class)).isInstanceOf(LazyTest_LazyAppConfig_ConfigBinder.class);
+        assertThat(ConfigMapper.binder(LazyAppConfig.class).componentElementTypes())
+                .containsExactly(null, DbConfig.class)
+                .isEqualTo(BindingPlan.compile(LazyAppConfig.class).componentElementTypes());
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.coreconfig;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RecordValidator Tests")
+class RecordValidatorTest {
+
+    record Limits(@Min(-5) Long floor, @Pattern(regexp = "[a-z]+", flags = Pattern.Flag.CASE_INSENSITIVE) String name) {}
+
+    record Tagged(@NotBlank String name, @Size(max = 3) List<String> tags) {}
+
+    record Interpolated(@Min(value = 1, message = "must be at least {value}") int count) {}
+
+    record Flagged(@NotBlank String name) {
+        @AssertTrue
+        public boolean isNamed() {
+            return !name.equals("anonymous");
+        }
+    }
+
+    @Test
+    @DisplayName("Compiled checks should report exactly what Hibernate Validator reports")
+    void problems_compiled_shouldMatchHibernate() {
+        List<Object> records = List.of(
+                new HttpConfig(0, " ", null),
+                new HttpConfig(70000, "localhost", Duration.ZERO),
+                new HttpConfig(8080, "localhost", Duration.ZERO),
+                new DbConfig("", "", null, 0, null),
+                new DbConfig("mysql:", "u", "p", -3, Duration.ZERO),
+                new Limits(-6L, "Abc"),
+                new Limits(null, "ab1"),
+                new Limits(null, null));
+
+        for (Object record : records) {
+            assertThat(RecordValidator.compiled(record.getClass())).isTrue();
+            assertThat(RecordValidator.problems(record)).containsExactlyInAnyOrderElementsOf(hibernate(record));
+        }
+        assertThat(RecordValidator.problems(new DbConfig("mysql:", "u", "p", -3, Duration.ZERO)))
+                .containsExactlyInAnyOrder("url must match \"^jdbc:.*\"", "poolSize must be positive");
+    }
+
+    @Test
+    @DisplayName("Should fall back to Hibernate Validator for anything it cannot compile and memoize its results")
+    void problems_unsupported_shouldUseHibernateAndMemoize() {
+        assertThat(RecordValidator.compiled(Tagged.class)).isFalse();
+        assertThat(RecordValidator.compiled(Interpolated.class)).isFalse();
+        assertThat(RecordValidator.compiled(Flagged.class)).isFalse();
+
+        List<String> problems = RecordValidator.problems(new Tagged("", List.of("a", "b", "c", "d")));
+        assertThat(problems).containsExactlyInAnyOrder("name must not be blank", "tags size must be between 0 and 3");
+        assertThat(RecordValidator.problems(new Tagged("", List.of("a", "b", "c", "d")))).isSameAs(problems);
+        assertThat(RecordValidator.problems(new Interpolated(0))).containsExactly("count must be at least 1");
+        assertThat(RecordValidator.problems(new Flagged("anonymous"))).containsExactly("named must be true");
+    }
+
+    private static List<String> hibernate(Object record) {
+        return RecordValidator.hibernate().validate(record).stream()
+                .map(cv -> cv.getPropertyPath() + " " + cv.getMessage())
+                .toList();
+    }
+}
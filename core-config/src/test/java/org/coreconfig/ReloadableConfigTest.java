@@ -0,0 +1,192 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReloadableConfig Tests")
+class ReloadableConfigTest {
+
+    private static final String VALID = """
+            http { host = "localhost", port = %d, idle-timeout = 10s }
+            db { url = "jdbc:h2:mem:", user = "a", password = "b", pool-size = %d, timeout = 1s }
+            """;
+
+    @TempDir
+    Path dir;
+
+    private Path configFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        configFile = dir.resolve("application.conf");
+        write(VALID.formatted(8080, 4));
+        System.setProperty("config.file", configFile.toString());
+        ConfigFactory.invalidateCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("config.file");
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    @DisplayName("Should publish a new snapshot when a watched file changes")
+    void fileChange_shouldPublishNewSnapshot() throws Exception {
+        try (ReloadableConfig<AppConfig> config = SimpleConfig.reloadable(AppConfig.class)) {
+            assertThat(config.current().db().poolSize()).isEqualTo(4);
+
+            write(VALID.formatted(8080, 32));
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (config.current().db().poolSize() != 32 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(config.current().db().poolSize()).isEqualTo(32);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the last good snapshot when the new config fails validation")
+    void invalidChange_shouldKeepLastGoodSnapshot() throws Exception {
+        try (ReloadableConfig<AppConfig> config = SimpleConfig.reloadable(AppConfig.class)) {
+            AppConfig before = config.current();
+
+            write(VALID.formatted(99999, 4));
+
+            assertThat(config.reload()).isFalse();
+            assertThat(config.current()).isSameAs(before);
+            assertThat(config.metrics().failures()).isGreaterThanOrEqualTo(1);
+            assertThat(config.metrics().published()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not publish when the bound configuration is unchanged")
+    void identicalReload_shouldNotPublish() {
+        try (ReloadableConfig<AppConfig> config = SimpleConfig.reloadable(AppConfig.class)) {
+            AppConfig before = config.current();
+
+            assertThat(config.reload()).isFalse();
+            assertThat(config.current()).isSameAs(before);
+        }
+    }
+
+    @Test
+    @DisplayName("Section handles should only move their version when their section changes")
+    void sectionHandles_shouldTrackTheirOwnSection() throws Exception {
+        try (ReloadableConfig<AppConfig> config = SimpleConfig.reloadable(AppConfig.class)) {
+            ConfigHandle<HttpConfig> http = config.handle(AppConfig::http);
+            ConfigHandle<DbConfig> db = config.handle(AppConfig::db);
+            long httpVersion = http.version();
+            long dbVersion = db.version();
+
+            write(VALID.formatted(8080, 32));
+            config.reload(); // May race with the watcher; either one publishes exactly once.
+
+            assertThat(db.hasChangedSince(dbVersion)).isTrue();
+            assertThat(db.get().poolSize()).isEqualTo(32);
+            assertThat(http.hasChangedSince(httpVersion)).isFalse();
+            assertThat(config.handle().version()).isEqualTo(1);
+            assertThat(config.metrics().published()).isEqualTo(1);
+            assertThat(config.bootMetrics().sections()).containsOnlyKeys("http", "db");
+        }
+    }
+
+    @Test
+    @DisplayName("Should still reload after close, dropping change notifications")
+    void reloadAfterClose_shouldNotNotify() throws Exception {
+        AtomicBoolean notified = new AtomicBoolean();
+        ReloadableConfig<AppConfig> config = SimpleConfig.reloadable(AppConfig.class);
+        config.subscribe("db", change -> notified.set(true));
+        config.close();
+
+        write(VALID.formatted(8080, 32));
+        assertThat(config.reload()).isTrue();
+        write(VALID.formatted(8080, 64));
+        assertThat(config.reload()).isTrue();
+
+        assertThat(config.current().db().poolSize()).isEqualTo(64);
+        Thread.sleep(300); // Past the notification debounce.
+        assertThat(notified).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should bind with the caller's options on boot and on every reload, and reject a snapshot cache")
+    void options_shouldApplyToEveryReload() throws Exception {
+        BootOptions options = BootOptions.defaults().strict().parallel();
+        try (ReloadableConfig<LazyTest.LazyAppConfig> config = SimpleConfig.reloadable(LazyTest.LazyAppConfig.class, options)) {
+            assertThat(config.current().db().isBound()).isTrue();
+
+            write(VALID.formatted(8081, 32));
+            config.reload(); // May race with the watcher; either one publishes.
+            assertThat(config.current().db().isBound()).isTrue();
+            assertThat(config.current().db().get().poolSize()).isEqualTo(32);
+
+            // Strict: rejected even though nothing has used the lazy section yet.
+            LazyTest.LazyAppConfig before = config.current();
+            write(VALID.formatted(8082, 0));
+            assertThat(config.reload()).isFalse();
+            assertThat(config.current()).isSameAs(before);
+        }
+
+        assertThatThrownBy(() -> SimpleConfig.reloadable(AppConfig.class, options.snapshotCache(dir.resolve("snapshot.bin"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("snapshot cache");
+    }
+
+    @Test
+    @DisplayName("Should rebind only changed sections and notify only interested subscribers")
+    void incrementalReload_shouldReuseUnchangedSectionsAndNotifySubscribers() throws Exception {
+        try (ReloadableConfig<AppConfig> config = SimpleConfig.reloadable(AppConfig.class)) {
+            HttpConfig httpBefore = config.current().http();
+            CompletableFuture<DbConfig> dbUpdate = new CompletableFuture<>();
+            CompletableFuture<ConfigChange<AppConfig>> poolSizeChange = new CompletableFuture<>();
+            AtomicBoolean httpNotified = new AtomicBoolean();
+
+            config.subscribe(DbConfig.class, dbUpdate::complete);
+            config.subscribe("db.pool-size", poolSizeChange::complete);
+            config.subscribe(HttpConfig.class, http -> httpNotified.set(true));
+
+            write(VALID.formatted(8080, 32));
+            config.reload();
+
+            assertThat(config.current().http()).isSameAs(httpBefore);
+            assertThat(dbUpdate.get(5, TimeUnit.SECONDS).poolSize()).isEqualTo(32);
+            assertThat(poolSizeChange.get(5, TimeUnit.SECONDS).changedSections()).containsOnlyKeys("db");
+            assertThat(httpNotified).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Type subscribers should receive the record of a changed lazy section")
+    void subscribeByType_shouldUnwrapLazySections() throws Exception {
+        try (ReloadableConfig<LazyTest.LazyAppConfig> config = SimpleConfig.reloadable(LazyTest.LazyAppConfig.class)) {
+            CompletableFuture<DbConfig> dbUpdate = new CompletableFuture<>();
+            config.subscribe(DbConfig.class, dbUpdate::complete);
+
+            write(VALID.formatted(8080, 32));
+            config.reload();
+
+            assertThat(dbUpdate.get(5, TimeUnit.SECONDS).poolSize()).isEqualTo(32);
+            assertThat(config.current().db().isBound()).isTrue();
+        }
+    }
+
+    private void write(String content) throws IOException {
+        Files.writeString(configFile, content);
+    }
+}
@@ -0,0 +1,189 @@
+package org.coreconfig;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RemoteConfigSource Tests")
+class RemoteConfigSourceTest {
+
+    /** A request as the stand-in server saw it. */
+    record Request(String ifNoneMatch, String ifModifiedSince, int status) {}
+
+    @TempDir
+    Path dir;
+
+    private HttpServer server;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile String body = "limits { max-orders = 10 }";
+    private volatile String etag = "\"v1\"";
+    private volatile int failWith;
+    private volatile CountDownLatch hold;
+    private final CountDownLatch arrived = new CountDownLatch(1);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/orders.conf", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        if (hold != null) {
+            hold.countDown();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should fetch once, then poll with conditional requests that cost only a 304")
+    void poll_shouldUseConditionalRequests() {
+        try (RemoteConfigSource remote = remote()) {
+            ConfigPipeline pipeline = ConfigPipeline.of(remote, ConfigSource.of("base",
+                    () -> ConfigFactory.parseString("limits { max-orders = 1, max-notional = 5 }")));
+
+            Config config = pipeline.load();
+            assertThat(config.getInt("limits.max-orders")).isEqualTo(10);
+            assertThat(config.getInt("limits.max-notional")).isEqualTo(5);
+            assertThat(dir.resolve("remote.conf")).exists();
+
+            assertThat(remote.poll()).isFalse();
+            assertThat(requests).containsExactly(
+                    new Request(null, null, 200),
+                    new Request("\"v1\"", "Thu, 01 Oct 2026 10:00:00 GMT", 304));
+
+            body = "limits { max-orders = 20 }";
+            etag = "\"v2\"";
+            assertThat(remote.poll()).isTrue();
+            assertThat(pipeline.load().getInt("limits.max-orders")).isEqualTo(20);
+        }
+    }
+
+    @Test
+    @DisplayName("Should boot from the last good copy without waiting for the server")
+    void load_withCachedCopy_shouldNotWaitForServer() throws IOException {
+        Files.writeString(dir.resolve("remote.conf"), "limits { max-orders = 7 }");
+        hold = new CountDownLatch(1);
+
+        try (RemoteConfigSource remote = remote().requestTimeout(Duration.ofSeconds(30))) {
+            long start = System.nanoTime();
+            Config config = remote.load();
+
+            assertThat(config.getInt("limits.max-orders")).isEqualTo(7);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop without waiting for a first fetch that is still in flight")
+    void close_duringFirstFetch_shouldNotWaitForServer() throws InterruptedException {
+        hold = new CountDownLatch(1);
+        RemoteConfigSource remote = remote().requestTimeout(Duration.ofSeconds(30));
+        Thread loader = Thread.ofVirtual().start(remote::load);
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).as("first fetch sent").isTrue();
+
+        long start = System.nanoTime();
+        remote.close();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        hold.countDown();
+        loader.join();
+    }
+
+    @Test
+    @DisplayName("Should keep the last good copy and back off while the server fails")
+    void poll_whenServerFails_shouldKeepLastGoodCopyAndBackOff() throws IOException {
+        try (RemoteConfigSource remote = remote().pollInterval(Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(5))) {
+            remote.load();
+            String cached = Files.readString(dir.resolve("remote.conf"));
+
+            failWith = 500;
+            remote.poll();
+            assertThat(remote.nextDelay()).isBetween(Duration.ofMillis(1800), Duration.ofMillis(2200));
+            remote.poll();
+            remote.poll();
+            assertThat(remote.nextDelay()).isBetween(Duration.ofMillis(4500), Duration.ofMillis(5500));
+
+            failWith = 503;
+            remote.poll();
+            assertThat(remote.nextDelay()).isBetween(Duration.ofSeconds(27), Duration.ofSeconds(33));
+
+            failWith = 0;
+            body = "limits { max-orders = ";
+            etag = "\"broken\"";
+            assertThat(remote.poll()).isFalse();
+
+            assertThat(Files.readString(dir.resolve("remote.conf"))).isEqualTo(cached);
+            assertThat(remote.load().getInt("limits.max-orders")).isEqualTo(10);
+
+            body = "limits { max-orders = 11 }";
+            etag = "\"v3\"";
+            assertThat(remote.poll()).isTrue();
+            assertThat(remote.nextDelay()).isBetween(Duration.ofMillis(900), Duration.ofMillis(1100));
+        }
+    }
+
+    private RemoteConfigSource remote() {
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/orders.conf");
+        return RemoteConfigSource.of(uri, dir.resolve("remote.conf")).pollInterval(Duration.ofHours(1));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            arrived.countDown();
+            if (hold != null) {
+                hold.await(30, TimeUnit.SECONDS);
+            }
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            if (failWith != 0) {
+                if (failWith == 503) {
+                    exchange.getResponseHeaders().add("Retry-After", "30");
+                }
+                respond(exchange, ifNoneMatch, ifModifiedSince, failWith, null);
+            } else if (etag.equals(ifNoneMatch)) {
+                respond(exchange, ifNoneMatch, ifModifiedSince, 304, null);
+            } else {
+                exchange.getResponseHeaders().add("ETag", etag);
+                exchange.getResponseHeaders().add("Last-Modified", "Thu, 01 Oct 2026 10:00:00 GMT");
+                respond(exchange, ifNoneMatch, ifModifiedSince, 200, body.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, String ifNoneMatch, String ifModifiedSince, int status, byte[] content)
+            throws IOException {
+        requests.add(new Request(ifNoneMatch, ifModifiedSince, status));
+        exchange.sendResponseHeaders(status, content == null ? -1 : content.length);
+        if (content != null) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.coreconfig;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("SecretFileResolver Tests")
+class SecretFileResolverTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should read every file as trimmed UTF-8 and report all keys on the first resolution")
+    void firstResolution_shouldReadAllFiles() throws IOException {
+        Map<String, Path> references = new TreeMap<>();
+        for (int i = 0; i < 20; i++) {
+            Path file = dir.resolve("secret-" + i);
+            Files.write(file, ("pässwört-" + i + "\n").getBytes(StandardCharsets.UTF_8));
+            references.put("SECRET_" + i, file);
+        }
+
+        SecretFileResolver.Resolution resolution = new SecretFileResolver(references, TIMEOUT).resolve();
+
+        assertThat(resolution.changedKeys()).hasSize(20);
+        assertThat(resolution.config().getString("SECRET_7")).isEqualTo("pässwört-7");
+    }
+
+    @Test
+    @DisplayName("Should report no changes when files are untouched or rewritten with the same content")
+    void unchangedContent_shouldReportNoChanges() throws IOException {
+        Path file = dir.resolve("db");
+        Files.writeString(file, "one");
+        SecretFileResolver resolver = new SecretFileResolver(Map.of("DB_PASSWORD", file), TIMEOUT);
+        resolver.resolve();
+
+        assertThat(resolver.resolve().changedKeys()).isEmpty();
+
+        Files.writeString(file, "one");
+        assertThat(resolver.resolve().changedKeys()).isEmpty();
+
+        Files.writeString(file, "two");
+        SecretFileResolver.Resolution resolution = resolver.resolve();
+        assertThat(resolution.changedKeys()).containsExactly("DB_PASSWORD");
+        assertThat(resolution.config().getString("DB_PASSWORD")).isEqualTo("two");
+    }
+
+    @Test
+    @DisplayName("Should re-read a file rewritten with the same size and modification time while it had not settled")
+    void unsettledRewrite_shouldBeReadAgain() throws IOException {
+        Path file = dir.resolve("db");
+        Files.writeString(file, "one");
+        FileTime modified = Files.getLastModifiedTime(file);
+        SecretFileResolver resolver = new SecretFileResolver(Map.of("DB_PASSWORD", file), TIMEOUT);
+        resolver.resolve();
+
+        // As on a file system with a coarse modification time: the rewrite keeps the stamp.
+        Files.writeString(file, "two");
+        Files.setLastModifiedTime(file, modified);
+
+        SecretFileResolver.Resolution resolution = resolver.resolve();
+        assertThat(resolution.changedKeys()).containsExactly("DB_PASSWORD");
+        assertThat(resolution.config().getString("DB_PASSWORD")).isEqualTo("two");
+    }
+
+    @Test
+    @DisplayName("Should detect a Kubernetes-style symlink swap and report only the rotated key")
+    void symlinkRotation_shouldReportOnlyAffectedKeys() throws IOException {
+        writeVersion("..v1", "db-one", "api-one");
+        Files.createSymbolicLink(dir.resolve("..data"), dir.resolve("..v1").getFileName());
+        Files.createSymbolicLink(dir.resolve("db"), Path.of("..data", "db"));
+        Files.createSymbolicLink(dir.resolve("api"), Path.of("..data", "api"));
+        SecretFileResolver resolver = new SecretFileResolver(
+                Map.of("DB_PASSWORD", dir.resolve("db"), "API_TOKEN", dir.resolve("api")), TIMEOUT);
+        resolver.resolve();
+
+        writeVersion("..v2", "db-two", "api-one");
+        Path swap = dir.resolve("..data_tmp");
+        Files.createSymbolicLink(swap, dir.resolve("..v2").getFileName());
+        Files.move(swap, dir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        SecretFileResolver.Resolution resolution = resolver.resolve();
+        assertThat(resolution.changedKeys()).containsExactly("DB_PASSWORD");
+        assertThat(resolution.config().getString("DB_PASSWORD")).isEqualTo("db-two");
+        assertThat(resolution.config().getString("API_TOKEN")).isEqualTo("api-one");
+    }
+
+    @Test
+    @DisplayName("Should fail for an unreadable file unless a previous value is cached")
+    void missingFile_shouldFailOnlyWithoutCachedValue() throws IOException {
+        Path file = dir.resolve("db");
+        SecretFileResolver resolver = new SecretFileResolver(Map.of("DB_PASSWORD", file), TIMEOUT);
+
+        assertThatThrownBy(resolver::resolve)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("DB_PASSWORD");
+
+        Files.writeString(file, "one");
+        resolver.resolve();
+        Files.delete(file);
+
+        SecretFileResolver.Resolution resolution = resolver.resolve();
+        assertThat(resolution.changedKeys()).isEmpty();
+        assertThat(resolution.config().getString("DB_PASSWORD")).isEqualTo("one");
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    @DisplayName("Should give up on a file that does not answer within the timeout")
+    void blockedRead_shouldTimeOut() throws Exception {
+        Path pipe = dir.resolve("blocked");
+        assumeMkfifo(pipe);
+        SecretFileResolver resolver = new SecretFileResolver(Map.of("DB_PASSWORD", pipe), Duration.ofMillis(200));
+
+        assertThatThrownBy(resolver::resolve)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("timed out");
+    }
+
+    private void writeVersion(String name, String db, String api) throws IOException {
+        Path version = Files.createDirectory(dir.resolve(name));
+        Files.writeString(version.resolve("db"), db);
+        Files.writeString(version.resolve("api"), api);
+    }
+
+    private static void assumeMkfifo(Path pipe) throws Exception {
+        Process mkfifo = new ProcessBuilder("mkfifo", pipe.toString()).start();
+        assumeTrue(mkfifo.waitFor() == 0, "mkfifo is not available");
+    }
+}
@@ -0,0 +1,120 @@
+package org.coreconfig;
+
+import com.typesafe.config.ConfigFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SimpleConfig Tests")
+class SimpleConfigTest {
+
+    private static final String VALID = """
+            http { host = "localhost", port = 8080, idle-timeout = 10s }
+            db { url = "jdbc:h2:mem:", user = "a", password = "b", pool-size = 4, timeout = 1s }
+            """;
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("config.file");
+        ConfigFactory.invalidateCaches();
+    }
+
+    @Test
+    @DisplayName("Parallel boot should produce the same config as sequential boot")
+    void parallelBoot_shouldMatchSequentialBoot() throws IOException {
+        useConfig(VALID);
+
+        AppConfig sequential = SimpleConfig.boot(AppConfig.class);
+        AppConfig parallel = SimpleConfig.boot(AppConfig.class, BootOptions.defaults().parallel());
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel.http().idleTimeout()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should report failures from every section together")
+    void boot_withFailuresInSeveralSections_shouldAggregateThem() throws IOException {
+        useConfig("""
+                http { host = " ", port = 99999, idle-timeout = 10s }
+                db { url = "jdbc:h2:mem:", user = "a", password = "b", pool-size = 0 }
+                """);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(2)) {
+            assertThatThrownBy(() -> SimpleConfig.boot(AppConfig.class, BootOptions.defaults().parallel(pool)))
+                    .hasCauseInstanceOf(ConfigValidationException.class)
+                    .cause()
+                    .satisfies(e -> {
+                        List<String> problems = ((ConfigValidationException) e).problems();
+                        assertThat(problems).hasSize(3);
+                        assertThat(problems.get(0)).startsWith(
+                                "db: Failed to map config path 'db' to DbConfig: Missing required config key: timeout");
+                        assertThat(problems.subList(1, 3)).containsExactly(
+                                "http.host must not be blank",
+                                "http.port must be less than or equal to 65535");
+                    });
+        }
+    }
+
+    @Test
+    @DisplayName("Should return boot metrics per phase and per section, and emit them as JFR events")
+    void bootWithMetrics_shouldReportPhasesAndSections() throws Exception {
+        useConfig(VALID);
+        Path jfr = dir.resolve("boot.jfr");
+
+        SimpleConfig.Booted<AppConfig> booted;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.coreconfig.BootPhase");
+            recording.enable("org.coreconfig.SectionBind");
+            recording.start();
+            booted = SimpleConfig.bootWithMetrics(AppConfig.class, BootOptions.defaults());
+            recording.stop();
+            recording.dump(jfr);
+        }
+
+        BootMetrics metrics = booted.metrics();
+        assertThat(booted.config().db().poolSize()).isEqualTo(4);
+        assertThat(metrics.phases()).containsKeys("load", "secrets", "resolve", "index", "render", "validator-init", "bind");
+        assertThat(metrics.sections()).containsOnlyKeys("http", "db");
+        assertThat(metrics.keys()).isGreaterThanOrEqualTo(8);
+        assertThat(metrics.total()).isGreaterThanOrEqualTo(metrics.phases().get("bind"));
+
+        List<RecordedEvent> sections = RecordingFile.readAllEvents(jfr).stream()
+                .filter(event -> event.getEventType().getName().equals("org.coreconfig.SectionBind"))
+                .toList();
+        assertThat(sections).extracting(event -> event.getString("section")).containsExactlyInAnyOrder("http", "db");
+        assertThat(sections).allSatisfy(event -> assertThat(event.getBoolean("succeeded")).isTrue());
+
+        Map<String, Long> phaseBytes = RecordingFile.readAllEvents(jfr).stream()
+                .filter(event -> event.getEventType().getName().equals("org.coreconfig.BootPhase"))
+                .collect(Collectors.toMap(event -> event.getString("phase"), event -> event.getLong("bytes")));
+        long fileSize = Files.size(dir.resolve("application.conf"));
+        assertThat(phaseBytes).containsEntry("application", fileSize);
+        assertThat(phaseBytes.get("load")).isGreaterThanOrEqualTo(fileSize);
+    }
+
+    private void useConfig(String hocon) throws IOException {
+        Path file = dir.resolve("application.conf");
+        Files.writeString(file, hocon);
+        System.setProperty("config.file", file.toString());
+        ConfigFactory.invalidateCaches();
+    }
+}